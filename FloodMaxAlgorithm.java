@@ -0,0 +1,72 @@
+/**
+ * Implementation of the FloodMax algorithm to elect a leader on an arbitrary connected network.
+ * In every round each node sends the largest ID it has seen to all of its neighbours.
+ * After as many rounds as the diameter, every node knows the maximum ID, and the node
+ * owning it becomes the leader.
+ */
+public class FloodMaxAlgorithm implements GraphElectionAlgorithm {
+    private int[] offsets;
+    private int[] targets;
+    private int[] ids;
+    private int[] maxSeen;      // Largest ID seen per node
+    private int[] sent;         // Values sent in the current round, so a round only moves one hop
+    private int rounds;         // Number of rounds to flood for (diameter bound)
+    private boolean decided;    // Whether every node has decided
+
+    /**
+     * Initializes every node with its own ID as the largest seen.
+     *
+     * @param network The network the election runs on.
+     */
+    @Override
+    public void initialize(GraphNetwork network) {
+        offsets = network.getOffsets();
+        targets = network.getTargets();
+        ids = network.getIDs();
+        maxSeen = ids.clone();
+        sent = new int[ids.length];
+        rounds = network.getDiameterBound();
+        decided = rounds == 0;
+    }
+
+
+    /**
+     * Every node sends its largest seen ID to all neighbours, then takes the maximum of what
+     * it received. Nodes decide at the end of the last flooding round.
+     *
+     * @param round The current round.
+     * @return The number of messages sent, equal to twice the number of edges.
+     */
+    @Override
+    public long executeRound(int round) {
+        if (decided) return 0;
+        System.arraycopy(maxSeen, 0, sent, 0, maxSeen.length);
+        for (int u = 0; u < sent.length; u++) {
+            int value = sent[u];
+            for (int e = offsets[u]; e < offsets[u + 1]; e++) {
+                int v = targets[e];
+                if (value > maxSeen[v]) maxSeen[v] = value;
+            }
+        }
+        if (round >= rounds) decided = true;
+        return targets.length;
+    }
+
+    /**
+     * @return The number of nodes that have decided: all of them once flooding is over, otherwise none.
+     */
+    @Override
+    public int getTerminatedCount() {
+        return decided ? ids.length : 0;
+    }
+
+    @Override
+    public Integer getLeaderID(int node) {
+        return decided ? maxSeen[node] : null;
+    }
+
+    @Override
+    public boolean isLeader(int node) {
+        return decided && maxSeen[node] == ids[node];
+    }
+}
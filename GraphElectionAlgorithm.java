@@ -0,0 +1,45 @@
+/**
+ * Interface representing a leader election algorithm on an arbitrary network.
+ * Unlike {@link LeaderElectionAlgorithm}, which is driven one processor at a time through
+ * direction-keyed message maps, an implementation executes a whole synchronous round over the
+ * network's CSR arrays at once, so that graphs with millions of edges can be simulated.
+ */
+public interface GraphElectionAlgorithm {
+
+    /**
+     * Sets up the state of every node before the first round.
+     * @param network The network the election runs on.
+     */
+    void initialize(GraphNetwork network);
+
+
+    /**
+     * Executes one round: every node reads the messages delivered in the previous round,
+     * updates its state and sends messages to its neighbours.
+     * @param round The current round of the election process.
+     * @return The number of messages sent in this round, one per edge traversal.
+     */
+    long executeRound(int round);
+
+
+    /**
+     * @return The number of nodes whose election process has terminated.
+     */
+    int getTerminatedCount();
+
+
+    /**
+     * Gets the leader known to a node.
+     * @param node The node index.
+     * @return The leader's ID, or null if not yet determined.
+     */
+    Integer getLeaderID(int node);
+
+
+    /**
+     * Checks whether a node has elected itself leader.
+     * @param node The node index.
+     * @return True if the node is the leader.
+     */
+    boolean isLeader(int node);
+}
@@ -0,0 +1,382 @@
+import java.util.*;
+
+/**
+ * Represents an arbitrary undirected network of processors participating in a leader election algorithm.
+ * The adjacency is stored in compressed sparse row (CSR) form: the neighbours of node u are
+ * {@code targets[offsets[u]]} to {@code targets[offsets[u + 1] - 1]}, so every undirected edge appears twice.
+ * Nodes are plain indices 0..n-1, which keeps graphs with millions of edges compact.
+ */
+public class GraphNetwork {
+    private int size;
+    private int[] offsets;      // Start of each node's neighbour list, length n + 1
+    private int[] targets;      // Concatenated neighbour lists, length 2 * edges
+    private int[] ids;          // Unique processor ID of each node
+    private int diameterBound;  // Upper bound on the diameter, used by flooding algorithms
+
+    /**
+     * Constructs a network from CSR adjacency arrays. The network must be connected.
+     * An upper bound on the diameter is computed with a breadth-first search from node 0.
+     *
+     * @param n       The number of processors.
+     * @param offsets The CSR row offsets, of length n + 1.
+     * @param targets The CSR neighbour array; each undirected edge must appear in both directions.
+     * @param ids     The array of unique IDs assigned to each processor.
+     * @throws IllegalArgumentException If the array lengths are inconsistent or the graph is not connected.
+     */
+    public GraphNetwork(int n, int[] offsets, int[] targets, int[] ids) {
+        this(n, offsets, targets, ids, -1);
+    }
+
+    private GraphNetwork(int n, int[] offsets, int[] targets, int[] ids, int diameterBound) {
+        if (ids.length != n) {
+            throw new IllegalArgumentException("ID array length must match network size");
+        }
+        if (offsets.length != n + 1 || offsets[0] != 0 || offsets[n] != targets.length) {
+            throw new IllegalArgumentException("Offsets do not describe the neighbour array");
+        }
+        this.size = n;
+        this.offsets = offsets;
+        this.targets = targets;
+        this.ids = ids;
+        int eccentricity = eccentricity(0);
+        if (eccentricity < 0) {
+            throw new IllegalArgumentException("Graph is not connected");
+        }
+        // Any node is within ecc(0) of node 0, so no two nodes are more than 2 * ecc(0) apart
+        this.diameterBound = diameterBound >= 0 ? diameterBound : Math.min(2 * eccentricity, n - 1);
+    }
+
+
+    /**
+     * Generates a rows x cols grid where each node is linked to its horizontal and vertical neighbours.
+     *
+     * @param rows The number of rows.
+     * @param cols The number of columns.
+     * @param ids  The array of rows * cols unique IDs, in row-major order.
+     * @return The grid network.
+     */
+    public static GraphNetwork grid(int rows, int cols, int[] ids) {
+        if (rows <= 0 || cols <= 0) {
+            throw new IllegalArgumentException("Grid dimensions must be positive");
+        }
+        int n = checkedSize((long) rows * cols);
+        EdgeList edges = new EdgeList(checkedEdgeCount(2L * n));
+        for (int r = 0; r < rows; r++) {
+            for (int c = 0; c < cols; c++) {
+                int u = r * cols + c;
+                if (c + 1 < cols) edges.add(u, u + 1);
+                if (r + 1 < rows) edges.add(u, u + cols);
+            }
+        }
+        return edges.build(n, ids, rows + cols - 2);
+    }
+
+
+    /**
+     * Generates a rows x cols torus: a grid whose rows and columns wrap around.
+     *
+     * @param rows The number of rows (at least 3).
+     * @param cols The number of columns (at least 3).
+     * @param ids  The array of rows * cols unique IDs, in row-major order.
+     * @return The torus network.
+     */
+    public static GraphNetwork torus(int rows, int cols, int[] ids) {
+        if (rows < 3 || cols < 3) {
+            throw new IllegalArgumentException("Torus dimensions must be at least 3");
+        }
+        int n = checkedSize((long) rows * cols);
+        EdgeList edges = new EdgeList(checkedEdgeCount(2L * n));
+        for (int r = 0; r < rows; r++) {
+            for (int c = 0; c < cols; c++) {
+                int u = r * cols + c;
+                edges.add(u, r * cols + (c + 1) % cols);
+                edges.add(u, ((r + 1) % rows) * cols + c);
+            }
+        }
+        return edges.build(n, ids, rows / 2 + cols / 2);
+    }
+
+
+    /**
+     * Generates a random d-regular simple graph using the pairing model. Self-loops and
+     * duplicate edges produced by the pairing are repaired by random edge switches.
+     *
+     * @param n    The number of processors.
+     * @param d    The degree of every node (n * d must be even, d < n).
+     * @param ids  The array of unique IDs assigned to each processor.
+     * @param rand The random source.
+     * @return The random regular network.
+     * @throws IllegalArgumentException If no such graph exists, the switches cannot repair the pairing
+     *         (possible for very dense degrees), or the result is not connected.
+     */
+    public static GraphNetwork randomRegular(int n, int d, int[] ids, Random rand) {
+        if (d <= 0 || d >= n || ((long) n * d) % 2 != 0) {
+            throw new IllegalArgumentException("Invalid degree " + d + " for " + n + " nodes");
+        }
+        int m = checkedEdgeCount((long) n * d / 2);
+        int[] stubs = new int[2 * m];
+        for (int i = 0; i < stubs.length; i++) stubs[i] = i / d;
+        for (int i = stubs.length - 1; i > 0; i--) {
+            int j = rand.nextInt(i + 1);
+            int tmp = stubs[i];
+            stubs[i] = stubs[j];
+            stubs[j] = tmp;
+        }
+
+        // Edge i joins stubs[2i] and stubs[2i + 1]; keep the valid ones and collect the rest
+        Set<Long> present = new HashSet<>(2 * m);
+        int[] bad = new int[m];
+        int badCount = 0;
+        for (int i = 0; i < m; i++) {
+            int a = stubs[2 * i], b = stubs[2 * i + 1];
+            if (a == b || !present.add(edgeKey(a, b, n))) {
+                bad[badCount++] = i;
+            }
+        }
+
+        int attempts = 0;
+        int maxAttempts = 100 * (badCount + 1) + 1000;
+        while (badCount > 0) {
+            if (attempts++ > maxAttempts) {
+                throw new IllegalArgumentException("Could not generate a simple " + d + "-regular graph");
+            }
+            int i = bad[badCount - 1];
+            int j = rand.nextInt(m);
+            if (j == i) continue;
+            int a = stubs[2 * i], b = stubs[2 * i + 1];
+            int c = stubs[2 * j], e = stubs[2 * j + 1];
+            long oldKey = edgeKey(c, e, n);
+            // Only switch with an edge that is itself valid and recorded
+            if (c == e || !present.contains(oldKey) || isBad(bad, badCount, j)) continue;
+            if (rand.nextBoolean()) {
+                int tmp = c;
+                c = e;
+                e = tmp;
+            }
+            // Replace (a, b) and (c, e) with (a, c) and (b, e)
+            long k1 = edgeKey(a, c, n), k2 = edgeKey(b, e, n);
+            if (a == c || b == e || k1 == k2 || present.contains(k1) || present.contains(k2)) continue;
+            present.remove(oldKey);
+            present.add(k1);
+            present.add(k2);
+            stubs[2 * i + 1] = c;
+            stubs[2 * j] = b;
+            stubs[2 * j + 1] = e;
+            badCount--;
+        }
+
+        EdgeList edges = new EdgeList(m);
+        for (int i = 0; i < m; i++) edges.add(stubs[2 * i], stubs[2 * i + 1]);
+        return edges.build(n, ids, -1);
+    }
+
+
+    /**
+     * Generates a scale-free graph with the Barabási-Albert preferential attachment model.
+     * The first m + 1 nodes form a clique; every later node attaches to m distinct earlier
+     * nodes chosen with probability proportional to their degree.
+     *
+     * @param n    The number of processors.
+     * @param m    The number of edges each new node attaches with (1 <= m < n).
+     * @param ids  The array of unique IDs assigned to each processor.
+     * @param rand The random source.
+     * @return The scale-free network.
+     */
+    public static GraphNetwork scaleFree(int n, int m, int[] ids, Random rand) {
+        if (m <= 0 || m >= n) {
+            throw new IllegalArgumentException("Invalid attachment count " + m + " for " + n + " nodes");
+        }
+        int edgeCount = checkedEdgeCount((long) m * (m + 1) / 2 + (long) (n - m - 1) * m);
+        EdgeList edges = new EdgeList(edgeCount);
+        int[] endpoints = new int[2 * edgeCount];  // Every edge endpoint, sampled for preferential attachment
+        int endpointCount = 0;
+        for (int u = 0; u <= m; u++) {
+            for (int v = u + 1; v <= m; v++) {
+                edges.add(u, v);
+                endpoints[endpointCount++] = u;
+                endpoints[endpointCount++] = v;
+            }
+        }
+        int[] chosen = new int[m];
+        for (int u = m + 1; u < n; u++) {
+            int count = 0;
+            while (count < m) {
+                int v = endpoints[rand.nextInt(endpointCount)];
+                boolean duplicate = false;
+                for (int k = 0; k < count; k++) {
+                    if (chosen[k] == v) {
+                        duplicate = true;
+                        break;
+                    }
+                }
+                if (!duplicate) chosen[count++] = v;
+            }
+            for (int k = 0; k < m; k++) {
+                edges.add(u, chosen[k]);
+                endpoints[endpointCount++] = u;
+                endpoints[endpointCount++] = chosen[k];
+            }
+        }
+        return edges.build(n, ids, -1);
+    }
+
+
+    /**
+     * Breadth-first search from a node.
+     *
+     * @param source The start node.
+     * @return The largest distance from the source, or -1 if some node is unreachable.
+     */
+    private int eccentricity(int source) {
+        int[] dist = new int[size];
+        Arrays.fill(dist, -1);
+        int[] queue = new int[size];
+        int head = 0, tail = 0;
+        dist[source] = 0;
+        queue[tail++] = source;
+        int max = 0;
+        while (head < tail) {
+            int u = queue[head++];
+            for (int e = offsets[u]; e < offsets[u + 1]; e++) {
+                int v = targets[e];
+                if (dist[v] < 0) {
+                    dist[v] = dist[u] + 1;
+                    max = Math.max(max, dist[v]);
+                    queue[tail++] = v;
+                }
+            }
+        }
+        return tail == size ? max : -1;
+    }
+
+    /**
+     * Checks that a node count fits in an int.
+     *
+     * @param size The number of nodes.
+     * @return The number of nodes as an int.
+     */
+    private static int checkedSize(long size) {
+        if (size > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Too many nodes: " + size);
+        }
+        return (int) size;
+    }
+
+    /**
+     * Checks that an edge count fits in the CSR arrays, which hold every edge twice.
+     *
+     * @param edges The number of undirected edges.
+     * @return The number of edges as an int.
+     */
+    private static int checkedEdgeCount(long edges) {
+        if (2 * edges > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Too many edges: " + edges);
+        }
+        return (int) edges;
+    }
+
+    private static long edgeKey(int a, int b, int n) {
+        return a < b ? (long) a * n + b : (long) b * n + a;
+    }
+
+    private static boolean isBad(int[] bad, int badCount, int edge) {
+        for (int k = 0; k < badCount; k++) {
+            if (bad[k] == edge) return true;
+        }
+        return false;
+    }
+
+    /**
+     * Growable list of undirected edges that is converted to CSR form once complete.
+     */
+    private static class EdgeList {
+        private int[] us;
+        private int[] vs;
+        private int count = 0;
+
+        EdgeList(int capacity) {
+            us = new int[Math.max(capacity, 1)];
+            vs = new int[Math.max(capacity, 1)];
+        }
+
+        void add(int u, int v) {
+            if (count == us.length) {
+                us = Arrays.copyOf(us, 2 * count);
+                vs = Arrays.copyOf(vs, 2 * count);
+            }
+            us[count] = u;
+            vs[count] = v;
+            count++;
+        }
+
+        GraphNetwork build(int n, int[] ids, int diameterBound) {
+            int[] offsets = new int[n + 1];
+            for (int i = 0; i < count; i++) {
+                offsets[us[i] + 1]++;
+                offsets[vs[i] + 1]++;
+            }
+            for (int u = 0; u < n; u++) offsets[u + 1] += offsets[u];
+            int[] next = Arrays.copyOf(offsets, n);
+            int[] targets = new int[2 * count];
+            for (int i = 0; i < count; i++) {
+                targets[next[us[i]]++] = vs[i];
+                targets[next[vs[i]]++] = us[i];
+            }
+            return new GraphNetwork(n, offsets, targets, ids, diameterBound);
+        }
+    }
+
+    /**
+     * Returns the number of processors in the network.
+     *
+     * @return The number of processors.
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Returns the number of undirected edges in the network.
+     *
+     * @return The number of edges.
+     */
+    public int getEdgeCount() {
+        return targets.length / 2;
+    }
+
+    /**
+     * Returns the CSR row offsets.
+     *
+     * @return The offsets array, of length n + 1.
+     */
+    public int[] getOffsets() {
+        return offsets;
+    }
+
+    /**
+     * Returns the CSR neighbour array.
+     *
+     * @return The neighbour array, of length 2 * edges.
+     */
+    public int[] getTargets() {
+        return targets;
+    }
+
+    /**
+     * Returns the IDs of the processors, indexed by node.
+     *
+     * @return The ID array.
+     */
+    public int[] getIDs() {
+        return ids;
+    }
+
+    /**
+     * Returns an upper bound on the diameter of the network. It is exact for grids and tori.
+     *
+     * @return The diameter bound.
+     */
+    public int getDiameterBound() {
+        return diameterBound;
+    }
+}
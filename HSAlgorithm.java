@@ -153,6 +153,62 @@ public class HSAlgorithm implements LeaderElectionAlgorithm {
         }
     }
 
+    /**
+     * A processor is idle unless it is about to start a phase: in round 1, or once both of its
+     * "in" messages have returned while it is still active.
+     *
+     * @param processor The processor to check.
+     * @param round The round in question.
+     * @return True if the processor would not start a new phase.
+     */
+    @Override
+    public boolean isIdle(Processor processor, int round) {
+        if (processor.getLeaderID() != null) {
+            return true;
+        }
+        return !(activeMap.get(processor)
+                && (round == 1 || (receivedClockwiseIn.get(processor) && receivedCounterclockwiseIn.get(processor))));
+    }
+
+
+    /**
+     * An "out" message with a larger ID and more than one hop left, or an "in" message heading
+     * back to another processor, is passed on in the opposite direction it came from.
+     * Termination messages are sent both ways, so they are never a plain relay.
+     *
+     * @param processor The processor receiving the message.
+     * @param message The received message.
+     * @param fromDirection The direction it was received from.
+     * @return The message sent on, or null if the processor acts on the message.
+     */
+    @Override
+    public Message getRelayedMessage(Processor processor, Message message, String fromDirection) {
+        if (!"hs".equals(message.getType())) {
+            return null;
+        }
+        if ("out".equals(message.getDirection()) && message.getId() > processor.getMyID() && message.getHopCount() > 1) {
+            return new Message("hs", message.getId(), "out", message.getHopCount() - 1);
+        }
+        if ("in".equals(message.getDirection()) && message.getId() != processor.getMyID()) {
+            return message;
+        }
+        return null;
+    }
+
+    /**
+     * An "out" message carrying a smaller ID is discarded.
+     *
+     * @param processor The processor receiving the message.
+     * @param message The received message.
+     * @param fromDirection The direction it was received from.
+     * @return True if the message is dropped.
+     */
+    @Override
+    public boolean isDropped(Processor processor, Message message, String fromDirection) {
+        return "hs".equals(message.getType()) && "out".equals(message.getDirection())
+                && message.getId() < processor.getMyID();
+    }
+
     /**
      * Checks whether the leader election process has terminated for this processor.
      * The process terminates when a leader ID has been set.
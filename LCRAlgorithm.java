@@ -60,6 +60,72 @@ public class LCRAlgorithm implements LeaderElectionAlgorithm {
         return messages;
     }
 
+    /**
+     * After the first round an LCR processor only acts on received messages.
+     *
+     * @param processor The processor to check.
+     * @param round The round in question.
+     * @return True for every round after the first.
+     */
+    @Override
+    public boolean isIdle(Processor processor, int round) {
+        return round > 1;
+    }
+
+
+    /**
+     * An election message carrying a larger ID, or a termination message reaching any processor
+     * other than the leader, is passed on clockwise unchanged.
+     *
+     * @param processor The processor receiving the message.
+     * @param message The received message.
+     * @param fromDirection The direction it was received from.
+     * @return The same message if it is relayed, otherwise null.
+     */
+    @Override
+    public Message getRelayedMessage(Processor processor, Message message, String fromDirection) {
+        if (!"counterclockwise".equals(fromDirection)) {
+            return null;
+        }
+        if ("election".equals(message.getType()) && message.getId() > processor.getMyID()) {
+            return message;
+        }
+        if ("termination".equals(message.getType())
+                && (!"leader".equals(processor.getStatus()) || message.getId() != processor.getMyID())) {
+            return message;
+        }
+        return null;
+    }
+
+
+    /**
+     * An election message carrying a smaller ID is discarded.
+     *
+     * @param processor The processor receiving the message.
+     * @param message The received message.
+     * @param fromDirection The direction it was received from.
+     * @return True if the message is dropped.
+     */
+    @Override
+    public boolean isDropped(Processor processor, Message message, String fromDirection) {
+        return "counterclockwise".equals(fromDirection) && "election".equals(message.getType())
+                && message.getId() < processor.getMyID();
+    }
+
+
+    /**
+     * A relayed termination message sets the processor's leader ID.
+     *
+     * @param processor The processor relaying the message.
+     * @param message The relayed message.
+     */
+    @Override
+    public void onRelay(Processor processor, Message message) {
+        if ("termination".equals(message.getType())) {
+            processor.setLeaderID(message.getId());
+        }
+    }
+
      /**
      * Checks whether the leader election process has terminated for this processor.
      * The process terminates when a leader ID has been set.
@@ -27,4 +27,55 @@ public interface LeaderElectionAlgorithm {
      * @return True if terminated (leader ID is set), false otherwise.
      */
     boolean isTerminated(Processor processor);
+
+
+    // Fast-forward support. The defaults disable fast-forwarding for algorithms that do not override them.
+
+    /**
+     * Checks whether a processor that receives no message in the given round would send nothing
+     * and keep its state unchanged.
+     * @param processor The processor to check.
+     * @param round The round in question.
+     * @return True if the processor is idle, false if it may act on its own.
+     */
+    default boolean isIdle(Processor processor, int round) {
+        return false;
+    }
+
+
+    /**
+     * Determines whether a received message is only relayed: the processor passes it on in the
+     * same direction it was travelling and changes no state other than through {@link #onRelay}.
+     * Must not modify the processor.
+     * @param processor The processor receiving the message.
+     * @param message The received message.
+     * @param fromDirection The direction it was received from ("clockwise" or "counterclockwise").
+     * @return The message the processor sends on, or null if the processor acts on the message.
+     */
+    default Message getRelayedMessage(Processor processor, Message message, String fromDirection) {
+        return null;
+    }
+
+
+    /**
+     * Determines whether a received message is discarded: the processor sends nothing for it
+     * and changes no state. Must not modify the processor.
+     * @param processor The processor receiving the message.
+     * @param message The received message.
+     * @param fromDirection The direction it was received from ("clockwise" or "counterclockwise").
+     * @return True if the message is dropped.
+     */
+    default boolean isDropped(Processor processor, Message message, String fromDirection) {
+        return false;
+    }
+
+
+    /**
+     * Applies the state change, if any, that relaying a message causes at a processor
+     * (e.g. learning the leader from a termination message).
+     * @param processor The processor relaying the message.
+     * @param message The relayed message.
+     */
+    default void onRelay(Processor processor, Message message) {
+    }
 }
\ No newline at end of file
@@ -1,14 +1,17 @@
+import java.io.IOException;
 import java.util.*;
+import javax.management.ObjectName;
 
 /**
  * A simulator for leader election algorithms in a bidirectional ring network.
- * Supports LCR and HS algorithms with different ID assignments.
+ * Supports LCR and HS algorithms with different ID assignments, and FloodMax
+ * variants on arbitrary topologies.
  */
 public class LeaderElectionSimulator {
     /**
      * The main method that drives the simulation process. It prompts the user to specify
-     * the run type (single or multiple), the algorithm (LCR or HS), and the ID assignment
-     * type (ascending, descending, or random).
+     * the run type (single, multiple, multi-election, graph or search), the algorithm (LCR or HS), and the ID
+     * assignment type (ascending, descending, random, or file for a single run).
      *
      * @param args Command-line arguments (not used in this implementation).
      */
@@ -17,13 +20,27 @@ public class LeaderElectionSimulator {
         int alpha = 3; // Constant for random ID generation range
 
         // Prompt for run type
-        System.out.print("Enter run type (single, multiple): ");
+        System.out.print("Enter run type (single, multiple, multi-election, graph, search): ");
         String runType = scanner.next().toLowerCase();
-        while (!runType.equals("single") && !runType.equals("multiple")) {
-            System.out.print("Invalid run type. Use 'single' or 'multiple': ");
+        while (!runType.equals("single") && !runType.equals("multiple") && !runType.equals("multi-election")
+                && !runType.equals("graph") && !runType.equals("search")) {
+            System.out.print("Invalid run type. Use 'single', 'multiple', 'multi-election', 'graph' or 'search': ");
             runType = scanner.next().toLowerCase();
         }
 
+        if (runType.equals("graph")) {
+            // Arbitrary topology: separate prompts for the graph algorithms and generators
+            promptGraphSimulation(scanner, alpha);
+            scanner.close();
+            return;
+        }
+        if (runType.equals("search")) {
+            // Worst-case ID permutation search: no ID assignment prompt
+            promptWorstCaseSearch(scanner);
+            scanner.close();
+            return;
+        }
+
         // Prompt for algorithm choice
         System.out.print("Enter algorithm (LCR, HS): ");
         String algorithmType = scanner.next().toUpperCase();
@@ -32,30 +49,95 @@ public class LeaderElectionSimulator {
             algorithmType = scanner.next().toUpperCase();
         }
 
-        // Prompt for ID assignment type
-        System.out.print("Enter ID assignment type (ascending, descending, random): ");
-        String idType = scanner.next().toLowerCase();
-        while (!idType.equals("ascending") && !idType.equals("descending") && !idType.equals("random")) {
-            System.out.print("Invalid ID type. Use 'ascending', 'descending', or 'random': ");
+        // Prompt for ID assignment type; IDs can only be read from a file for a single run.
+        // Multi-election runs always use random IDs, since ascending or descending IDs would make
+        // all k elections identical and batching would only measure copies of one election
+        String idType = "random";
+        if (!runType.equals("multi-election")) {
+            boolean allowFile = runType.equals("single");
+            System.out.print(allowFile ? "Enter ID assignment type (ascending, descending, random, file): "
+                    : "Enter ID assignment type (ascending, descending, random): ");
             idType = scanner.next().toLowerCase();
+            while (!idType.equals("ascending") && !idType.equals("descending") && !idType.equals("random")
+                    && !(allowFile && idType.equals("file"))) {
+                System.out.print(allowFile ? "Invalid ID type. Use 'ascending', 'descending', 'random', or 'file': "
+                        : "Invalid ID type. Use 'ascending', 'descending', or 'random': ");
+                idType = scanner.next().toLowerCase();
+            }
+        }
+
+        // Prompt for fast-forwarding of relay-only rounds (single and multiple runs)
+        boolean fastForward = false;
+        if (!runType.equals("multi-election")) {
+            System.out.print("Fast-forward relay-only rounds (yes, no): ");
+            String answer = scanner.next().toLowerCase();
+            while (!answer.equals("yes") && !answer.equals("no")) {
+                System.out.print("Invalid answer. Use 'yes' or 'no': ");
+                answer = scanner.next().toLowerCase();
+            }
+            fastForward = answer.equals("yes");
         }
 
         if (runType.equals("single")) {
-            // Single run: prompt for ring size
+            int[] ids;
+            if (idType.equals("file")) {
+                // IDs from a file, e.g. one written by a search; the file sets the ring size
+                System.out.print("Enter ID file path: ");
+                String path = scanner.next();
+                try {
+                    ids = RingNetwork.readIDs(path);
+                } catch (IOException | IllegalArgumentException e) {
+                    System.out.println("Could not read ID file: " + e.getMessage());
+                    scanner.close();
+                    return;
+                }
+            } else {
+                // Single run: prompt for ring size
+                System.out.print("Enter ring size (n): ");
+                int n = scanner.nextInt();
+                while (n <= 0) {
+                    System.out.print("Ring size must be positive. Enter ring size (n): ");
+                    n = scanner.nextInt();
+                }
+                ids = RingNetwork.generateIDs(n, idType, alpha);
+            }
+            int n = ids.length;
+            SimulationMonitor monitor = new SimulationMonitor(algorithmType, n, SimulationMonitor.expectedRounds(algorithmType, n), null);
+            runSimulation(ids, algorithmType, idType, fastForward, monitor, 0);
+        } else if (runType.equals("multi-election")) {
+            // Many elections sharing one ring
             System.out.print("Enter ring size (n): ");
             int n = scanner.nextInt();
             while (n <= 0) {
                 System.out.print("Ring size must be positive. Enter ring size (n): ");
                 n = scanner.nextInt();
             }
-            runSimulation(n, algorithmType, idType, alpha);
+            System.out.print("Enter number of elections (k): ");
+            int k = scanner.nextInt();
+            // Progress is counted over the processors of all elections, so n * k must fit in an int
+            while (k <= 0 || (long) n * k > Integer.MAX_VALUE) {
+                System.out.print("Number of elections must be between 1 and " + Integer.MAX_VALUE / n
+                        + ". Enter number of elections (k): ");
+                k = scanner.nextInt();
+            }
+            runMultiElection(n, k, algorithmType, alpha);
         } else {
             // Multiple runs: predefined ring sizes
             int[] ringSizes = {50, 100, 200, 300, 400, 500, 600, 700, 800, 900, 1000};
-            for (int n : ringSizes) {
+            SweepMonitor sweep = new SweepMonitor(algorithmType, ringSizes);
+            sweep.register();
+            for (int i = 0; i < ringSizes.length; i++) {
+                if (sweep.isCancelled()) {
+                    System.out.println("Sweep cancelled, skipping remaining ring sizes");
+                    break;
+                }
+                int n = ringSizes[i];
                 System.out.println("Starting simulation for n = " + n);
-                runSimulation(n, algorithmType, idType, alpha);
+                SimulationMonitor monitor = sweep.startRun(n);
+                runSimulation(RingNetwork.generateIDs(n, idType, alpha), algorithmType, idType, fastForward, monitor, i);
+                sweep.finishRun(monitor.getRound(), monitor.getMessages());
             }
+            sweep.unregister();
         }
 
         scanner.close();
@@ -65,14 +147,16 @@ public class LeaderElectionSimulator {
     /**
      * Runs a single leader election simulation.
      *
-     * @param n The number of processors in the ring.
+     * @param ids The processor IDs in ring order; their number sets the ring size.
      * @param algorithmType The election algorithm to use (LCR or HS).
-     * @param idType The type of ID assignment (ascending, descending, random).
-     * @param alpha A constant for random ID generation.
+     * @param idType The type of ID assignment (ascending, descending, random, file), for output.
+     * @param fastForward Whether to skip rounds in which messages are only relayed; totals are unchanged.
+     * @param monitor Receives progress after every round and is checked for pause/cancel between rounds.
+     * @param index The position of this run within its sweep (0 for a single run).
      */
-    private static void runSimulation(int n, String algorithmType, String idType, int alpha) {
-        // Generate IDs based on the chosen type and ring size
-        int[] ids = RingNetwork.generateIDs(n, idType, alpha);
+    private static void runSimulation(int[] ids, String algorithmType, String idType, boolean fastForward,
+                                      SimulationMonitor monitor, int index) {
+        int n = ids.length;
 
         // Create algorithm instance based on user choice
         LeaderElectionAlgorithm algorithm;
@@ -88,19 +172,27 @@ public class LeaderElectionSimulator {
 
         int round = 0;
         int messageCount = 0;
+        boolean cancelled = false;
+        ObjectName monitorName = monitor.register(index);
 
         // Run the simulation
         while (true) {
             round++;
             // Check if all processors have terminated
-            boolean allTerminated = true;
+            int terminatedCount = 0;
             for (Processor p : ring) {
-                if (!p.isTerminated()) {
-                    allTerminated = false;
-                    break;
+                if (p.isTerminated()) {
+                    terminatedCount++;
                 }
             }
-            if (allTerminated) break;  // Election process is complete
+            monitor.update(round - 1, messageCount, terminatedCount);
+            if (terminatedCount == n) break;  // Election process is complete
+
+            // Honour pause and cancel requests between rounds
+            if (!monitor.checkpoint()) {
+                cancelled = true;
+                break;
+            }
 
             // Collect messages to send in this round
             Map<Processor, Map<String, Message>> messagesToSend = new HashMap<>();
@@ -113,44 +205,343 @@ public class LeaderElectionSimulator {
             }
 
             // Distribute messages to neighbors
-            for (Processor p : ring) {
-                p.setReceivedFromClockwise(null);
-                p.setReceivedFromCounterclockwise(null);
-                if (messagesToSend.containsKey(p.getClockwiseNeighbour())) {
-                    Map<String, Message> neighbourMsgs = messagesToSend.get(p.getClockwiseNeighbour());
-                    if (neighbourMsgs.containsKey("counterclockwise")) {
-                        p.setReceivedFromClockwise(neighbourMsgs.get("counterclockwise"));
-                    }
+            network.deliverMessages(messagesToSend);
+
+            if (fastForward) {
+                // Skip rounds that only relay, crediting their rounds and messages
+                round += network.fastForward(round + 1);
+                messageCount += network.getFastForwardMessages();
+            }
+        }
+
+        SimulationMonitor.unregisterMBean(monitorName);
+        if (cancelled) {
+            System.out.println("Ring size: " + n + ", Algorithm: " + algorithmType + ", ID type: " + idType);
+            System.out.println("Cancelled after round " + (round - 1) + ", Messages: " + messageCount);
+            System.out.println("---------------------");
+            return;
+        }
+
+        // Verify correctness of the election
+        boolean correct = network.isElectionCorrect();
+
+        // Output results
+        System.out.println("Ring size: " + n + ", Algorithm: " + algorithmType + ", ID type: " + idType);
+        System.out.println("Rounds: " + round + ", Messages: " + messageCount + ", Correct: " + correct);
+        System.out.println("---------------------");
+    }
+
+
+    /**
+     * Runs k leader elections at once over one shared ring, batching the messages that cross
+     * the same link in the same round, and reports the counts per election and per link.
+     * Every election gets its own random IDs.
+     *
+     * @param n The number of processors in the ring.
+     * @param k The number of elections.
+     * @param algorithmType The election algorithm to use (LCR or HS).
+     * @param alpha A constant for random ID generation.
+     */
+    private static void runMultiElection(int n, int k, String algorithmType, int alpha) {
+        RingNetwork[] elections = new RingNetwork[k];
+        for (int e = 0; e < k; e++) {
+            LeaderElectionAlgorithm algorithm;
+            if (algorithmType.equals("LCR")) {
+                algorithm = new LCRAlgorithm();
+            } else {
+                algorithm = new HSAlgorithm();
+            }
+            elections[e] = new RingNetwork(n, algorithm, RingNetwork.generateIDs(n, "random", alpha));
+        }
+        MultiElectionSimulation simulation = new MultiElectionSimulation(elections);
+
+        // The monitor counts the processors of all k elections, matching the terminated counts it receives
+        SimulationMonitor monitor = new SimulationMonitor(algorithmType, k * n, SimulationMonitor.expectedRounds(algorithmType, n), null);
+        ObjectName monitorName = monitor.register(0);
+        boolean completed = simulation.run(monitor);
+        SimulationMonitor.unregisterMBean(monitorName);
+
+        System.out.println("Ring size: " + n + ", Elections: " + k + ", Algorithm: " + algorithmType + ", ID type: random");
+        if (!completed) {
+            System.out.println("Cancelled after round " + simulation.getRounds() + ", Messages: " + simulation.getTotalMessages());
+            System.out.println("---------------------");
+            return;
+        }
+
+        // Per-election results
+        long minMessages = Long.MAX_VALUE, maxMessages = 0;
+        int minRounds = Integer.MAX_VALUE, maxRounds = 0;
+        int correctCount = 0;
+        for (int e = 0; e < k; e++) {
+            minMessages = Math.min(minMessages, simulation.getElectionMessages(e));
+            maxMessages = Math.max(maxMessages, simulation.getElectionMessages(e));
+            minRounds = Math.min(minRounds, simulation.getElectionRounds(e));
+            maxRounds = Math.max(maxRounds, simulation.getElectionRounds(e));
+            if (simulation.isElectionCorrect(e)) correctCount++;
+        }
+        System.out.println("Rounds: " + simulation.getRounds() + ", Correct elections: " + correctCount + "/" + k);
+        System.out.println("Per election - Messages min/avg/max: " + minMessages + "/"
+                + simulation.getTotalMessages() / k + "/" + maxMessages + ", Rounds min/max: " + minRounds + "/" + maxRounds);
+
+        // Per-link results
+        long maxLinkMessages = 0, maxLinkFrames = 0;
+        int busiestLink = 0;
+        for (int link = 0; link < 2 * n; link++) {
+            if (simulation.getLinkMessages(link) > maxLinkMessages) {
+                maxLinkMessages = simulation.getLinkMessages(link);
+                busiestLink = link;
+            }
+            maxLinkFrames = Math.max(maxLinkFrames, simulation.getLinkFrames(link));
+        }
+        String busiestDirection = busiestLink % 2 == 0 ? "clockwise" : "counterclockwise";
+        System.out.println("Per link - Messages avg/max: " + simulation.getTotalMessages() / (2 * n) + "/" + maxLinkMessages
+                + " (node " + busiestLink / 2 + " " + busiestDirection + "), Frames avg/max: "
+                + simulation.getTotalFrames() / (2 * n) + "/" + maxLinkFrames);
+
+        // Batching compared with k separate runs, where every message is its own transmission
+        long messages = simulation.getTotalMessages();
+        long frames = simulation.getTotalFrames();
+        double saving = messages > 0 ? 100.0 * (messages - frames) / messages : 0;
+        System.out.println("Messages: " + messages + ", Frames: " + frames
+                + ", Saving vs separate runs: " + String.format("%.1f", saving) + "%");
+        System.out.println("---------------------");
+    }
+
+
+    /**
+     * Prompts for the parameters of a worst-case ID permutation search, runs it on all cores
+     * and writes the worst permutations found as ID files in the current directory.
+     *
+     * @param scanner The input scanner.
+     */
+    private static void promptWorstCaseSearch(Scanner scanner) {
+        System.out.print("Enter algorithm (LCR, HS): ");
+        String algorithmType = scanner.next().toUpperCase();
+        while (!algorithmType.equals("LCR") && !algorithmType.equals("HS")) {
+            System.out.print("Invalid algorithm. Use 'LCR' or 'HS': ");
+            algorithmType = scanner.next().toUpperCase();
+        }
+
+        System.out.print("Enter objective to maximize (messages, rounds): ");
+        String objective = scanner.next().toLowerCase();
+        while (!objective.equals("messages") && !objective.equals("rounds")) {
+            System.out.print("Invalid objective. Use 'messages' or 'rounds': ");
+            objective = scanner.next().toLowerCase();
+        }
+
+        int n = promptAtLeast(scanner, "Enter ring size (n): ", 2);
+        int iterations = promptPositive(scanner, "Enter iterations per thread: ");
+        int threads = Runtime.getRuntime().availableProcessors();
+
+        WorstCaseSearch search = new WorstCaseSearch(algorithmType, objective, n, iterations, threads, System.nanoTime());
+        List<WorstCaseSearch.Candidate> results;
+        try {
+            results = search.run();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            System.out.println("Search interrupted");
+            return;
+        }
+
+        System.out.println("Ring size: " + n + ", Algorithm: " + algorithmType + ", Objective: " + objective
+                + ", Threads: " + threads + ", Iterations per thread: " + iterations);
+        for (int rank = 0; rank < results.size(); rank++) {
+            WorstCaseSearch.Candidate candidate = results.get(rank);
+            String path = "worst_" + algorithmType + "_" + objective + "_n" + n + "_" + (rank + 1) + ".txt";
+            String summary = "Rounds: " + candidate.getRounds() + ", Messages: " + candidate.getMessages();
+            try {
+                RingNetwork.writeIDs(path, candidate.getIDs(), algorithmType + " n=" + n + " " + summary);
+                System.out.println(summary + ", written to " + path);
+            } catch (IOException e) {
+                System.out.println(summary + ", could not write " + path + ": " + e.getMessage());
+            }
+        }
+        System.out.println("---------------------");
+    }
+
+
+    /**
+     * Prompts for the algorithm, ID assignment and topology of a graph simulation, then runs it.
+     *
+     * @param scanner The input scanner.
+     * @param alpha A constant for random ID generation.
+     */
+    private static void promptGraphSimulation(Scanner scanner, int alpha) {
+        System.out.print("Enter algorithm (FloodMax, OptFloodMax): ");
+        String algorithmType = scanner.next().toUpperCase();
+        while (!algorithmType.equals("FLOODMAX") && !algorithmType.equals("OPTFLOODMAX")) {
+            System.out.print("Invalid algorithm. Use 'FloodMax' or 'OptFloodMax': ");
+            algorithmType = scanner.next().toUpperCase();
+        }
+
+        System.out.print("Enter ID assignment type (ascending, descending, random): ");
+        String idType = scanner.next().toLowerCase();
+        while (!idType.equals("ascending") && !idType.equals("descending") && !idType.equals("random")) {
+            System.out.print("Invalid ID type. Use 'ascending', 'descending', or 'random': ");
+            idType = scanner.next().toLowerCase();
+        }
+
+        System.out.print("Enter topology (grid, torus, regular, scalefree): ");
+        String topology = scanner.next().toLowerCase();
+        while (!topology.equals("grid") && !topology.equals("torus") && !topology.equals("regular") && !topology.equals("scalefree")) {
+            System.out.print("Invalid topology. Use 'grid', 'torus', 'regular' or 'scalefree': ");
+            topology = scanner.next().toLowerCase();
+        }
+
+        GraphNetwork network;
+        try {
+            if (topology.equals("grid") || topology.equals("torus")) {
+                // A torus wraps around, so it needs at least 3 rows and columns to stay a simple graph
+                int min = topology.equals("torus") ? 3 : 1;
+                int rows = promptAtLeast(scanner, "Enter number of rows: ", min);
+                int cols = promptAtLeast(scanner, "Enter number of columns: ", min);
+                // Each node has up to 2 edges of its own, stored twice in the CSR neighbour array
+                while (4L * rows * cols > Integer.MAX_VALUE) {
+                    System.out.println("Too many nodes: " + (long) rows * cols + ", at most " + Integer.MAX_VALUE / 4 + " are supported.");
+                    rows = promptAtLeast(scanner, "Enter number of rows: ", min);
+                    cols = promptAtLeast(scanner, "Enter number of columns: ", min);
+                }
+                int[] ids = RingNetwork.generateIDs(rows * cols, idType, alpha);
+                if (topology.equals("grid")) {
+                    network = GraphNetwork.grid(rows, cols, ids);
+                } else {
+                    network = GraphNetwork.torus(rows, cols, ids);
                 }
-                if (messagesToSend.containsKey(p.getCounterclockwiseNeighbour())) {
-                    Map<String, Message> neighbourMsgs = messagesToSend.get(p.getCounterclockwiseNeighbour());
-                    if (neighbourMsgs.containsKey("clockwise")) {
-                        p.setReceivedFromCounterclockwise(neighbourMsgs.get("clockwise"));
+            } else {
+                int n = promptAtLeast(scanner, "Enter number of nodes (n): ", 2);
+                if (topology.equals("regular")) {
+                    System.out.print("Enter node degree (d): ");
+                    int d = scanner.nextInt();
+                    while (d < 1 || d >= n || ((long) n * d) % 2 != 0) {
+                        System.out.print("Degree must be between 1 and " + (n - 1) + " with n * d even. Enter node degree (d): ");
+                        d = scanner.nextInt();
                     }
+                    int[] ids = RingNetwork.generateIDs(n, idType, alpha);
+                    network = GraphNetwork.randomRegular(n, d, ids, new Random());
+                } else {
+                    System.out.print("Enter edges per new node (m): ");
+                    int m = scanner.nextInt();
+                    while (m < 1 || m >= n) {
+                        System.out.print("Edges per new node must be between 1 and " + (n - 1) + ". Enter edges per new node (m): ");
+                        m = scanner.nextInt();
+                    }
+                    int[] ids = RingNetwork.generateIDs(n, idType, alpha);
+                    network = GraphNetwork.scaleFree(n, m, ids, new Random());
                 }
             }
+        } catch (IllegalArgumentException e) {
+            // e.g. a random regular graph that came out disconnected
+            System.out.println("Could not build network: " + e.getMessage());
+            return;
         }
 
-        // Verify correctness of the election
+        GraphElectionAlgorithm algorithm;
+        if (algorithmType.equals("FLOODMAX")) {
+            algorithm = new FloodMaxAlgorithm();
+        } else {
+            algorithm = new OptFloodMaxAlgorithm();
+        }
+        // FloodMax runs for exactly the diameter bound, plus the final termination check
+        SimulationMonitor monitor = new SimulationMonitor(algorithmType, network.getSize(), network.getDiameterBound() + 1, null);
+        runGraphSimulation(network, algorithm, algorithmType, topology, idType, monitor);
+    }
+
+
+    /**
+     * Prompts until a positive integer is entered.
+     *
+     * @param scanner The input scanner.
+     * @param prompt The prompt to print.
+     * @return The value entered.
+     */
+    private static int promptPositive(Scanner scanner, String prompt) {
+        return promptAtLeast(scanner, prompt, 1);
+    }
+
+
+    /**
+     * Prompts until an integer of at least the given minimum is entered.
+     *
+     * @param scanner The input scanner.
+     * @param prompt The prompt to print.
+     * @param min The smallest accepted value.
+     * @return The value entered.
+     */
+    private static int promptAtLeast(Scanner scanner, String prompt, int min) {
+        System.out.print(prompt);
+        int value = scanner.nextInt();
+        while (value < min) {
+            System.out.print("Value must be at least " + min + ". " + prompt);
+            value = scanner.nextInt();
+        }
+        return value;
+    }
+
+
+    /**
+     * Runs a single leader election simulation on an arbitrary network, with the same round
+     * and message accounting as {@link #runSimulation}.
+     *
+     * @param network The network to run on.
+     * @param algorithm The election algorithm to use.
+     * @param algorithmType The name of the algorithm, for output.
+     * @param topology The name of the topology, for output.
+     * @param idType The type of ID assignment, for output.
+     * @param monitor Receives progress after every round and is checked for pause/cancel between rounds.
+     */
+    private static void runGraphSimulation(GraphNetwork network, GraphElectionAlgorithm algorithm, String algorithmType,
+                                           String topology, String idType, SimulationMonitor monitor) {
+        int n = network.getSize();
+        algorithm.initialize(network);
+
+        int round = 0;
+        long messageCount = 0;
+        boolean cancelled = false;
+        ObjectName monitorName = monitor.register(0);
+
+        // Run the simulation
+        while (true) {
+            round++;
+            int terminatedCount = algorithm.getTerminatedCount();
+            monitor.update(round - 1, messageCount, terminatedCount);
+            if (terminatedCount == n) break;  // Election process is complete
+
+            // Honour pause and cancel requests between rounds
+            if (!monitor.checkpoint()) {
+                cancelled = true;
+                break;
+            }
+            messageCount += algorithm.executeRound(round);
+        }
+
+        SimulationMonitor.unregisterMBean(monitorName);
+        System.out.println("Network size: " + n + ", Edges: " + network.getEdgeCount() + ", Topology: " + topology
+                + ", Algorithm: " + algorithmType + ", ID type: " + idType);
+        if (cancelled) {
+            System.out.println("Cancelled after round " + (round - 1) + ", Messages: " + messageCount);
+            System.out.println("---------------------");
+            return;
+        }
+
+        // Verify correctness: exactly one leader, known to every node
         int leaderCount = 0;
         int electedLeaderID = -1;
-        for (Processor p : ring) {
-            if ("leader".equals(p.getStatus())) {
+        int[] ids = network.getIDs();
+        for (int u = 0; u < n; u++) {
+            if (algorithm.isLeader(u)) {
                 leaderCount++;
-                electedLeaderID = p.getMyID();
+                electedLeaderID = ids[u];
             }
         }
-        // Ensure only one leader was elected and all processors recognize the same leader
         boolean correct = leaderCount == 1;
-        for (Processor p : ring) {
-            if (p.getLeaderID() == null || p.getLeaderID() != electedLeaderID) {
+        for (int u = 0; u < n; u++) {
+            Integer leaderID = algorithm.getLeaderID(u);
+            if (leaderID == null || leaderID != electedLeaderID) {
                 correct = false;
                 break;
             }
         }
 
-        // Output results
-        System.out.println("Ring size: " + n + ", Algorithm: " + algorithmType + ", ID type: " + idType);
         System.out.println("Rounds: " + round + ", Messages: " + messageCount + ", Correct: " + correct);
         System.out.println("---------------------");
     }
@@ -0,0 +1,195 @@
+import java.util.*;
+
+/**
+ * Runs many independent leader elections at once over the same ring of nodes, as when a
+ * leader is elected per shard. Every election has its own {@link RingNetwork} (its own IDs and
+ * algorithm state) but they share the physical links: all messages that cross the same directed
+ * link in the same round are batched into a single link frame.
+ * Message counts are kept per election and per link so the frames can be compared with the
+ * messages that k separate runs would send.
+ */
+public class MultiElectionSimulation {
+    private RingNetwork[] elections;
+    private int size;
+    private int rounds = 0;              // Rounds until every election terminated, as reported by runSimulation
+    private int[] electionRounds;        // Rounds each election needed
+    private long[] electionMessages;     // Messages sent per election
+    private long[] linkMessages;         // Messages per directed link: 2i is i -> clockwise, 2i + 1 is i -> counterclockwise
+    private long[] linkFrames;           // Frames per directed link
+    private long totalMessages = 0;
+    private long totalFrames = 0;
+
+    /**
+     * Constructs a multi-election simulation.
+     *
+     * @param elections One ring network per election, all of the same size.
+     * @throws IllegalArgumentException If no elections are given or the rings differ in size.
+     */
+    public MultiElectionSimulation(RingNetwork[] elections) {
+        if (elections.length == 0) {
+            throw new IllegalArgumentException("At least one election is required");
+        }
+        this.elections = elections;
+        this.size = elections[0].getSize();
+        for (RingNetwork network : elections) {
+            if (network.getSize() != size) {
+                throw new IllegalArgumentException("All elections must run on rings of the same size");
+            }
+        }
+        electionRounds = new int[elections.length];
+        electionMessages = new long[elections.length];
+        linkMessages = new long[2 * size];
+        linkFrames = new long[2 * size];
+    }
+
+
+    /**
+     * Runs all elections in lockstep until every one of them has terminated.
+     *
+     * @param monitor Receives the total progress after every round, with terminated processors summed over all
+     *                elections, and is checked for pause/cancel between rounds.
+     * @return True if all elections finished, false if the run was cancelled.
+     */
+    public boolean run(SimulationMonitor monitor) {
+        int k = elections.length;
+        boolean[] finished = new boolean[k];
+        int remaining = k;
+        int[] linkStamp = new int[2 * size];  // Last round in which each link carried a frame
+
+        int round = 0;
+        while (true) {
+            round++;
+            // Check which elections have terminated
+            int terminatedCount = 0;
+            for (int e = 0; e < k; e++) {
+                if (finished[e]) {
+                    terminatedCount += size;
+                    continue;
+                }
+                int count = 0;
+                for (Processor p : elections[e].getRing()) {
+                    if (p.isTerminated()) count++;
+                }
+                terminatedCount += count;
+                if (count == size) {
+                    finished[e] = true;
+                    electionRounds[e] = round;
+                    remaining--;
+                }
+            }
+            monitor.update(round - 1, totalMessages, terminatedCount);
+            if (remaining == 0) break;  // Every election is complete
+
+            // Honour pause and cancel requests between rounds
+            if (!monitor.checkpoint()) {
+                rounds = round - 1;
+                return false;
+            }
+
+            for (int e = 0; e < k; e++) {
+                if (finished[e]) continue;
+                Processor[] ring = elections[e].getRing();
+
+                // Collect messages to send in this round and batch them per link
+                Map<Processor, Map<String, Message>> messagesToSend = new HashMap<>();
+                for (int i = 0; i < size; i++) {
+                    Map<String, Message> msgs = ring[i].getMessagesToSend(round);
+                    if (msgs.isEmpty()) continue;
+                    messagesToSend.put(ring[i], msgs);
+                    electionMessages[e] += msgs.size();
+                    totalMessages += msgs.size();
+                    for (String direction : msgs.keySet()) {
+                        int link = "clockwise".equals(direction) ? 2 * i : 2 * i + 1;
+                        linkMessages[link]++;
+                        if (linkStamp[link] != round) {
+                            // First message on this link this round opens a new frame
+                            linkStamp[link] = round;
+                            linkFrames[link]++;
+                            totalFrames++;
+                        }
+                    }
+                }
+
+                // Distribute messages to neighbors
+                elections[e].deliverMessages(messagesToSend);
+            }
+        }
+        rounds = round;
+        return true;
+    }
+
+    /**
+     * @return The number of elections.
+     */
+    public int getElectionCount() {
+        return elections.length;
+    }
+
+    /**
+     * @return The number of processors in the shared ring.
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * @return The rounds until every election terminated (or until cancellation).
+     */
+    public int getRounds() {
+        return rounds;
+    }
+
+    /**
+     * @param election The election index.
+     * @return The rounds the given election needed, or 0 if it did not finish.
+     */
+    public int getElectionRounds(int election) {
+        return electionRounds[election];
+    }
+
+    /**
+     * @param election The election index.
+     * @return The messages sent by the given election.
+     */
+    public long getElectionMessages(int election) {
+        return electionMessages[election];
+    }
+
+    /**
+     * @param election The election index.
+     * @return True if the given election elected exactly one leader known to all processors.
+     */
+    public boolean isElectionCorrect(int election) {
+        return elections[election].isElectionCorrect();
+    }
+
+    /**
+     * @param link The directed link index: 2i for node i to its clockwise neighbour, 2i + 1 for counterclockwise.
+     * @return The messages that crossed the link.
+     */
+    public long getLinkMessages(int link) {
+        return linkMessages[link];
+    }
+
+    /**
+     * @param link The directed link index: 2i for node i to its clockwise neighbour, 2i + 1 for counterclockwise.
+     * @return The frames that crossed the link.
+     */
+    public long getLinkFrames(int link) {
+        return linkFrames[link];
+    }
+
+    /**
+     * @return The messages sent by all elections, equal to the link transmissions of k separate runs.
+     */
+    public long getTotalMessages() {
+        return totalMessages;
+    }
+
+    /**
+     * @return The link frames sent when messages are batched.
+     */
+    public long getTotalFrames() {
+        return totalFrames;
+    }
+}
@@ -0,0 +1,98 @@
+/**
+ * Implementation of the optimized FloodMax algorithm on an arbitrary connected network.
+ * A node only sends when the largest ID it has seen changed in the previous round, so IDs
+ * that are already known stop being re-flooded. It runs for the same number of rounds as
+ * FloodMax and elects the same leader, with far fewer messages.
+ */
+public class OptFloodMaxAlgorithm implements GraphElectionAlgorithm {
+    private int[] offsets;
+    private int[] targets;
+    private int[] ids;
+    private int[] maxSeen;      // Largest ID seen per node
+    private int[] frontier;     // Nodes whose largest ID changed in the previous round
+    private int frontierSize;
+    private int[] nextFrontier;
+    private int[] sent;         // Values sent by the frontier in the current round
+    private int[] changedRound; // Last round in which each node's value changed, avoids duplicates
+    private int rounds;         // Number of rounds to flood for (diameter bound)
+    private boolean decided;    // Whether every node has decided
+
+    /**
+     * Initializes every node with its own ID as the largest seen; all nodes send in round 1.
+     *
+     * @param network The network the election runs on.
+     */
+    @Override
+    public void initialize(GraphNetwork network) {
+        offsets = network.getOffsets();
+        targets = network.getTargets();
+        ids = network.getIDs();
+        int n = ids.length;
+        maxSeen = ids.clone();
+        frontier = new int[n];
+        nextFrontier = new int[n];
+        sent = new int[n];
+        changedRound = new int[n];
+        for (int u = 0; u < n; u++) frontier[u] = u;
+        frontierSize = n;
+        rounds = network.getDiameterBound();
+        decided = rounds == 0;
+    }
+
+
+    /**
+     * Nodes in the frontier send their largest seen ID to all neighbours. A neighbour whose
+     * value grows joins the frontier for the next round.
+     *
+     * @param round The current round.
+     * @return The number of messages sent, the total degree of the frontier.
+     */
+    @Override
+    public long executeRound(int round) {
+        if (decided) return 0;
+        long messages = 0;
+        for (int i = 0; i < frontierSize; i++) {
+            sent[i] = maxSeen[frontier[i]];
+        }
+        int nextSize = 0;
+        for (int i = 0; i < frontierSize; i++) {
+            int u = frontier[i];
+            int value = sent[i];
+            messages += offsets[u + 1] - offsets[u];
+            for (int e = offsets[u]; e < offsets[u + 1]; e++) {
+                int v = targets[e];
+                if (value > maxSeen[v]) {
+                    maxSeen[v] = value;
+                    if (changedRound[v] != round) {
+                        changedRound[v] = round;
+                        nextFrontier[nextSize++] = v;
+                    }
+                }
+            }
+        }
+        int[] tmp = frontier;
+        frontier = nextFrontier;
+        nextFrontier = tmp;
+        frontierSize = nextSize;
+        if (round >= rounds) decided = true;
+        return messages;
+    }
+
+    /**
+     * @return The number of nodes that have decided: all of them once flooding is over, otherwise none.
+     */
+    @Override
+    public int getTerminatedCount() {
+        return decided ? ids.length : 0;
+    }
+
+    @Override
+    public Integer getLeaderID(int node) {
+        return decided ? maxSeen[node] : null;
+    }
+
+    @Override
+    public boolean isLeader(int node) {
+        return decided && maxSeen[node] == ids[node];
+    }
+}
@@ -0,0 +1,264 @@
+/**
+ * Fast evaluator of the rounds and messages a ring election needs for a given ID arrangement,
+ * used to score many candidate rings during a search.
+ * Results match {@link LeaderElectionSimulator}'s round loop exactly:
+ * - LCR uses a closed form: every ID travels clockwise up to the first larger ID (the largest
+ *   goes all the way round), then the termination message crosses all n links; rounds are always 2n + 1.
+ * - HS replays {@link HSAlgorithm} on primitive arrays instead of processors and message maps. Each
+ *   round only visits the processors that receive a message or start a phase, so a ring costs
+ *   O(messages + rounds) rather than O(n * rounds).
+ * Each call evaluates the whole ring; nothing is carried over from the previous ring.
+ * An evaluator reuses its buffers, so each thread should have its own.
+ */
+public class RingEvaluator {
+    // Message types in the array simulation
+    private static final int OUT = 1;
+    private static final int IN = 2;
+    private static final int TERMINATION = 3;
+
+    private String algorithmType;
+    private int n;
+    private int rounds;
+    private long messages;
+
+    // LCR buffer
+    private int[] stack;
+
+    // HS state per processor
+    private int[] phase;
+    private boolean[] active;
+    private boolean[] receivedClockwiseIn;
+    private boolean[] receivedCounterclockwiseIn;
+    private boolean[] terminated;
+    // Messages sent per processor and direction, indexed by round parity so a round reads the
+    // previous one while writing its own; a slot only holds a message if its round stamp matches
+    private int[][] cwType, cwId, cwHop, cwRound, ccwType, ccwId, ccwHop, ccwRound;
+    private int terminatedCount;
+    // Processors to visit in the current and the next round, without duplicates
+    private int[] visit, nextVisit;
+    private int[] visitRound;   // Last round for which each processor was queued
+
+    /**
+     * Constructs an evaluator for rings of a fixed size.
+     *
+     * @param algorithmType The election algorithm to evaluate (LCR or HS).
+     * @param n             The number of processors in the ring.
+     */
+    public RingEvaluator(String algorithmType, int n) {
+        if (!"LCR".equals(algorithmType) && !"HS".equals(algorithmType)) {
+            throw new IllegalArgumentException("Invalid algorithm: " + algorithmType);
+        }
+        this.algorithmType = algorithmType;
+        this.n = n;
+        if ("LCR".equals(algorithmType)) {
+            stack = new int[n];
+        } else {
+            phase = new int[n];
+            active = new boolean[n];
+            receivedClockwiseIn = new boolean[n];
+            receivedCounterclockwiseIn = new boolean[n];
+            terminated = new boolean[n];
+            cwType = new int[2][n]; cwId = new int[2][n]; cwHop = new int[2][n]; cwRound = new int[2][n];
+            ccwType = new int[2][n]; ccwId = new int[2][n]; ccwHop = new int[2][n]; ccwRound = new int[2][n];
+            visit = new int[n];
+            nextVisit = new int[n];
+            visitRound = new int[n];
+        }
+    }
+
+
+    /**
+     * Evaluates a ring. The results are available from {@link #getRounds()} and {@link #getMessages()}.
+     *
+     * @param ids The unique IDs in ring order, clockwise.
+     */
+    public void evaluate(int[] ids) {
+        if (ids.length != n) {
+            throw new IllegalArgumentException("ID array length must match ring size");
+        }
+        if ("LCR".equals(algorithmType)) {
+            evaluateLCR(ids);
+        } else {
+            evaluateHS(ids);
+        }
+    }
+
+
+    /**
+     * Sums, over all IDs, the clockwise distance to the first larger ID using a monotonic stack
+     * over two passes of the ring.
+     */
+    private void evaluateLCR(int[] ids) {
+        long hops = 0;
+        int top = 0;
+        // Walk counterclockwise over the ring twice; the stack holds positions of IDs that are
+        // larger than everything between them and the current position
+        for (int k = 2 * n - 1; k >= 0; k--) {
+            int i = k % n;
+            while (top > 0 && ids[stack[top - 1] % n] <= ids[i]) top--;
+            if (k < n) {
+                hops += top > 0 ? stack[top - 1] - k : n;  // Largest ID goes all the way round
+            }
+            stack[top++] = k;
+        }
+        messages = hops + n;
+        rounds = 2 * n + 1;
+    }
+
+
+    /**
+     * Replays HSAlgorithm round by round, reading each processor's inputs from the messages its
+     * neighbours sent in the previous round. A processor that receives nothing and does not start
+     * a phase sends nothing either, so only the neighbours of this round's senders and the
+     * processors whose probes have both returned are visited in the next round.
+     */
+    private void evaluateHS(int[] ids) {
+        for (int p = 0; p < n; p++) {
+            phase[p] = 0;
+            active[p] = true;
+            receivedClockwiseIn[p] = false;
+            receivedCounterclockwiseIn[p] = false;
+            terminated[p] = false;
+            for (int b = 0; b < 2; b++) {
+                cwRound[b][p] = -1;
+                ccwRound[b][p] = -1;
+            }
+            visitRound[p] = 1;
+            visit[p] = p;  // Every processor starts a phase in round 1
+        }
+        int visitCount = n;
+        terminatedCount = 0;
+        messages = 0;
+
+        int round = 0;
+        while (true) {
+            round++;
+            if (terminatedCount == n) break;  // Election process is complete
+            if (visitCount == 0) {
+                throw new IllegalStateException("HS replay stalled in round " + round);
+            }
+
+            int cur = round & 1;
+            int prev = cur ^ 1;
+            int nextCount = 0;
+            for (int v = 0; v < visitCount; v++) {
+                int p = visit[v];
+                int myID = ids[p];
+                if (!terminated[p] && active[p]
+                        && (round == 1 || (receivedClockwiseIn[p] && receivedCounterclockwiseIn[p]))) {
+                    int hopCount = (int) Math.pow(2, phase[p]);
+                    send(p, cur, round, true, OUT, myID, hopCount);
+                    send(p, cur, round, false, OUT, myID, hopCount);
+                    receivedClockwiseIn[p] = false;
+                    receivedCounterclockwiseIn[p] = false;
+                    phase[p]++;
+                }
+                // Message from the clockwise neighbour (sent counterclockwise), then from the counterclockwise one
+                int cw = (p + 1) % n;
+                int ccw = (p - 1 + n) % n;
+                if (ccwRound[prev][cw] == round - 1) {
+                    receive(p, cur, round, myID, true, ccwType[prev][cw], ccwId[prev][cw], ccwHop[prev][cw]);
+                }
+                if (cwRound[prev][ccw] == round - 1) {
+                    receive(p, cur, round, myID, false, cwType[prev][ccw], cwId[prev][ccw], cwHop[prev][ccw]);
+                }
+
+                // Queue the processors that have something to do next round
+                if (cwRound[cur][p] == round) {
+                    messages++;
+                    if (visitRound[cw] != round + 1) {
+                        visitRound[cw] = round + 1;
+                        nextVisit[nextCount++] = cw;
+                    }
+                }
+                if (ccwRound[cur][p] == round) {
+                    messages++;
+                    if (visitRound[ccw] != round + 1) {
+                        visitRound[ccw] = round + 1;
+                        nextVisit[nextCount++] = ccw;
+                    }
+                }
+                if (!terminated[p] && active[p] && receivedClockwiseIn[p] && receivedCounterclockwiseIn[p]
+                        && visitRound[p] != round + 1) {
+                    visitRound[p] = round + 1;
+                    nextVisit[nextCount++] = p;
+                }
+            }
+
+            int[] t = visit;
+            visit = nextVisit;
+            nextVisit = t;
+            visitCount = nextCount;
+        }
+        rounds = round;
+    }
+
+    /**
+     * Processes one received message as HSAlgorithm.forwardMessages does.
+     */
+    private void receive(int p, int cur, int round, int myID, boolean fromClockwise, int type, int id, int hop) {
+        if (type == OUT) {
+            if (id > myID && hop > 1) {
+                send(p, cur, round, !fromClockwise, OUT, id, hop - 1);
+            } else if (id > myID && hop == 1) {
+                send(p, cur, round, fromClockwise, IN, id, 1);
+                active[p] = false;
+            } else if (id == myID) {
+                setLeader(p);
+                send(p, cur, round, true, TERMINATION, myID, 0);
+                send(p, cur, round, false, TERMINATION, myID, 0);
+                active[p] = false;
+            }
+        } else if (type == IN) {
+            if (id != myID) {
+                send(p, cur, round, !fromClockwise, IN, id, 1);
+            } else if (fromClockwise) {
+                receivedClockwiseIn[p] = true;
+            } else {
+                receivedCounterclockwiseIn[p] = true;
+            }
+        } else if (type == TERMINATION) {
+            setLeader(p);
+            send(p, cur, round, true, TERMINATION, id, 0);
+            send(p, cur, round, false, TERMINATION, id, 0);
+        }
+    }
+
+    /**
+     * Puts a message in a processor's outgoing slot for this round, replacing any earlier one as a map put would.
+     */
+    private void send(int p, int cur, int round, boolean clockwise, int type, int id, int hop) {
+        if (clockwise) {
+            cwType[cur][p] = type;
+            cwId[cur][p] = id;
+            cwHop[cur][p] = hop;
+            cwRound[cur][p] = round;
+        } else {
+            ccwType[cur][p] = type;
+            ccwId[cur][p] = id;
+            ccwHop[cur][p] = hop;
+            ccwRound[cur][p] = round;
+        }
+    }
+
+    private void setLeader(int p) {
+        if (!terminated[p]) {
+            terminated[p] = true;
+            terminatedCount++;
+        }
+    }
+
+    /**
+     * @return The rounds of the last evaluated ring, counted as runSimulation reports them.
+     */
+    public int getRounds() {
+        return rounds;
+    }
+
+    /**
+     * @return The messages of the last evaluated ring.
+     */
+    public long getMessages() {
+        return messages;
+    }
+}
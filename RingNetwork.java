@@ -1,3 +1,4 @@
+import java.io.*;
 import java.util.*;
 /**
  * Represents a ring network of processors participating in a leader election algorithm.
@@ -6,6 +7,8 @@ import java.util.*;
 public class RingNetwork {
     private Processor[] ring;
     private int size;
+    private LeaderElectionAlgorithm algorithm;
+    private int fastForwardMessages = 0;   // Messages sent in the rounds skipped by the last fast-forward
 
     /**
      * Constructs a ring network of processors for leader election.
@@ -17,6 +20,7 @@ public class RingNetwork {
      */
     public RingNetwork(int n, LeaderElectionAlgorithm algorithm, int[] ids) {
         this.size = n;
+        this.algorithm = algorithm;
         if (ids.length != n) {
             throw new IllegalArgumentException("ID array length must match ring size");
         }
@@ -64,6 +68,239 @@ public class RingNetwork {
         return ids;
     }
 
+    /**
+     * Reads processor IDs from a file. IDs are whitespace-separated integers in ring order;
+     * lines starting with '#' are comments.
+     *
+     * @param path The file to read.
+     * @return The array of processor IDs.
+     * @throws IOException If the file cannot be read.
+     * @throws IllegalArgumentException If the file contains no IDs, an invalid number or a duplicate ID.
+     */
+    public static int[] readIDs(String path) throws IOException {
+        List<Integer> list = new ArrayList<>();
+        Set<Integer> used = new HashSet<>();
+        try (BufferedReader reader = new BufferedReader(new FileReader(path))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                line = line.trim();
+                if (line.isEmpty() || line.startsWith("#")) continue;
+                for (String token : line.split("\\s+")) {
+                    int id;
+                    try {
+                        id = Integer.parseInt(token);
+                    } catch (NumberFormatException e) {
+                        throw new IllegalArgumentException("Invalid ID in " + path + ": " + token);
+                    }
+                    if (!used.add(id)) {
+                        throw new IllegalArgumentException("Duplicate ID in " + path + ": " + id);
+                    }
+                    list.add(id);
+                }
+            }
+        }
+        if (list.isEmpty()) {
+            throw new IllegalArgumentException("No IDs in " + path);
+        }
+        int[] ids = new int[list.size()];
+        for (int i = 0; i < ids.length; i++) ids[i] = list.get(i);
+        return ids;
+    }
+
+
+    /**
+     * Writes processor IDs to a file in the format read by {@link #readIDs}, one ID per line.
+     *
+     * @param path    The file to write.
+     * @param ids     The processor IDs in ring order.
+     * @param comment A comment written on the first line, or null for none.
+     * @throws IOException If the file cannot be written.
+     */
+    public static void writeIDs(String path, int[] ids, String comment) throws IOException {
+        try (PrintWriter writer = new PrintWriter(new BufferedWriter(new FileWriter(path)))) {
+            if (comment != null) {
+                writer.println("# " + comment);
+            }
+            for (int id : ids) {
+                writer.println(id);
+            }
+            // PrintWriter swallows write errors, so a full disk would otherwise leave a truncated file
+            writer.flush();
+            if (writer.checkError()) {
+                throw new IOException("Error writing " + path);
+            }
+        }
+    }
+
+
+    /**
+     * Delivers the messages sent in a round: each processor receives the "counterclockwise" message
+     * of its clockwise neighbour and the "clockwise" message of its counterclockwise neighbour.
+     * Messages from the previous round are cleared.
+     *
+     * @param messagesToSend The messages sent this round, keyed by sender and then by direction.
+     */
+    public void deliverMessages(Map<Processor, Map<String, Message>> messagesToSend) {
+        for (Processor p : ring) {
+            p.setReceivedFromClockwise(null);
+            p.setReceivedFromCounterclockwise(null);
+            if (messagesToSend.containsKey(p.getClockwiseNeighbour())) {
+                Map<String, Message> neighbourMsgs = messagesToSend.get(p.getClockwiseNeighbour());
+                if (neighbourMsgs.containsKey("counterclockwise")) {
+                    p.setReceivedFromClockwise(neighbourMsgs.get("counterclockwise"));
+                }
+            }
+            if (messagesToSend.containsKey(p.getCounterclockwiseNeighbour())) {
+                Map<String, Message> neighbourMsgs = messagesToSend.get(p.getCounterclockwiseNeighbour());
+                if (neighbourMsgs.containsKey("clockwise")) {
+                    p.setReceivedFromCounterclockwise(neighbourMsgs.get("clockwise"));
+                }
+            }
+        }
+    }
+
+
+    /**
+     * Skips rounds in which every processor is idle and every message in flight is only relayed
+     * or dropped. Each message is moved straight to the processor it reaches after the skipped rounds,
+     * with the relays' state changes applied, so the run continues exactly as if the rounds had been
+     * stepped. The skip stops at the first round that would reach a processor acting on a message,
+     * and early if every processor terminates, so the round loop still stops at the same round.
+     * The messages sent in the skipped rounds are available from {@link #getFastForwardMessages()}.
+     *
+     * @param nextRound The round the delivered messages are to be processed in.
+     * @return The number of rounds skipped (0 if the next round needs stepping).
+     */
+    public int fastForward(int nextRound) {
+        fastForwardMessages = 0;
+        if (nextRound <= 1) return 0;
+        for (Processor p : ring) {
+            if (!algorithm.isIdle(p, nextRound)) return 0;
+        }
+
+        // Collect the messages in flight with their receiver and the direction they come from
+        List<Processor> at = new ArrayList<>();
+        List<Message> msgs = new ArrayList<>();
+        List<Boolean> fromClockwise = new ArrayList<>();
+        int remaining = 0;  // Processors not yet terminated
+        for (Processor p : ring) {
+            if (p.getReceivedFromClockwise() != null) {
+                at.add(p);
+                msgs.add(p.getReceivedFromClockwise());
+                fromClockwise.add(true);
+            }
+            if (p.getReceivedFromCounterclockwise() != null) {
+                at.add(p);
+                msgs.add(p.getReceivedFromCounterclockwise());
+                fromClockwise.add(false);
+            }
+            if (!p.isTerminated()) remaining++;
+        }
+        int count = msgs.size();
+        if (count == 0) return 0;
+
+        // Pass 1: the number of rounds every message is relayed for, walking no further than needed
+        int skip = size;
+        for (int i = 0; i < count && skip > 0; i++) {
+            String from = fromClockwise.get(i) ? "clockwise" : "counterclockwise";
+            Processor p = at.get(i);
+            Message m = msgs.get(i);
+            int hops = 0;
+            boolean dropped = false;
+            while (hops < skip) {
+                Message next = algorithm.getRelayedMessage(p, m, from);
+                if (next == null) {
+                    dropped = algorithm.isDropped(p, m, from);
+                    break;
+                }
+                hops++;
+                p = fromClockwise.get(i) ? p.getCounterclockwiseNeighbour() : p.getClockwiseNeighbour();
+                m = next;
+            }
+            if (!dropped) skip = hops;  // A dropped message does not limit the skip
+        }
+        if (skip == 0) return 0;
+
+        // Pass 2: advance all messages round by round, applying the relays' state changes
+        Processor[] positions = at.toArray(new Processor[count]);
+        Message[] current = msgs.toArray(new Message[count]);
+        for (int j = 1; j <= skip; j++) {
+            for (int i = 0; i < count; i++) {
+                if (current[i] == null) continue;  // Dropped in an earlier round
+                Processor p = positions[i];
+                String from = fromClockwise.get(i) ? "clockwise" : "counterclockwise";
+                Message next = algorithm.getRelayedMessage(p, current[i], from);
+                if (next == null) {
+                    // Dropped here, as pass 1 established
+                    current[i] = null;
+                    continue;
+                }
+                fastForwardMessages++;
+                boolean wasTerminated = p.isTerminated();
+                algorithm.onRelay(p, current[i]);
+                if (!wasTerminated && p.isTerminated()) remaining--;
+                positions[i] = fromClockwise.get(i) ? p.getCounterclockwiseNeighbour() : p.getClockwiseNeighbour();
+                current[i] = next;
+            }
+            if (remaining == 0) {
+                // The round loop would stop after this round
+                skip = j;
+                break;
+            }
+        }
+
+        for (Processor p : ring) {
+            p.setReceivedFromClockwise(null);
+            p.setReceivedFromCounterclockwise(null);
+        }
+        for (int i = 0; i < count; i++) {
+            if (current[i] == null) continue;
+            if (fromClockwise.get(i)) {
+                positions[i].setReceivedFromClockwise(current[i]);
+            } else {
+                positions[i].setReceivedFromCounterclockwise(current[i]);
+            }
+        }
+        return skip;
+    }
+
+
+    /**
+     * Returns the number of messages sent in the rounds skipped by the last call to {@link #fastForward}.
+     *
+     * @return The number of messages.
+     */
+    public int getFastForwardMessages() {
+        return fastForwardMessages;
+    }
+
+
+    /**
+     * Verifies the outcome of a finished election: exactly one processor is the leader
+     * and every processor recognizes it.
+     *
+     * @return True if the election is correct, false otherwise.
+     */
+    public boolean isElectionCorrect() {
+        int leaderCount = 0;
+        int electedLeaderID = -1;
+        for (Processor p : ring) {
+            if ("leader".equals(p.getStatus())) {
+                leaderCount++;
+                electedLeaderID = p.getMyID();
+            }
+        }
+        // Ensure only one leader was elected and all processors recognize the same leader
+        boolean correct = leaderCount == 1;
+        for (Processor p : ring) {
+            if (p.getLeaderID() == null || p.getLeaderID() != electedLeaderID) {
+                correct = false;
+                break;
+            }
+        }
+        return correct;
+    }
+
       /**
      * Returns the array of processors forming the ring network.
      *
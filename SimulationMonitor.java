@@ -0,0 +1,246 @@
+import java.lang.management.ManagementFactory;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * Tracks the progress of a single simulation and exposes it over JMX.
+ * The round loop publishes its counters through {@link #update} and calls {@link #checkpoint}
+ * between rounds; both only touch volatile fields unless the run is paused.
+ */
+public class SimulationMonitor implements SimulationMonitorMBean {
+    static final String DOMAIN = "LeaderElectionSimulator";
+
+    private final String algorithm;
+    private final int ringSize;
+    private final int expectedRounds;      // Rough estimate of the total rounds, used for the ETA
+    private final SweepMonitor sweep;      // Enclosing sweep, or null for a single run
+    private final long startNanos = System.nanoTime();
+
+    private volatile int round = 0;
+    private volatile long messages = 0;
+    private volatile int nodesTerminated = 0;
+    private volatile boolean paused = false;
+    private volatile boolean cancelled = false;
+    private volatile long pausedNanos = 0;      // Total time spent waiting in checkpoint()
+    private volatile long pausedSince = 0;      // Start of the current wait, or 0 if not waiting
+
+    /**
+     * Constructs a monitor for one simulation.
+     *
+     * @param algorithm      The algorithm being simulated ("LCR" or "HS").
+     * @param ringSize       The number of processors in the ring, over all elections for a multi-election run.
+     * @param expectedRounds An estimate of the total number of rounds, used for the ETA.
+     * @param sweep          The sweep this run belongs to, or null for a single run.
+     */
+    public SimulationMonitor(String algorithm, int ringSize, int expectedRounds, SweepMonitor sweep) {
+        this.algorithm = algorithm;
+        this.ringSize = ringSize;
+        this.expectedRounds = expectedRounds;
+        this.sweep = sweep;
+    }
+
+
+    /**
+     * Publishes the counters of the round that has just completed.
+     *
+     * @param round           The completed round.
+     * @param messages        The total number of messages sent so far.
+     * @param nodesTerminated The number of processors that have terminated.
+     */
+    public void update(int round, long messages, int nodesTerminated) {
+        this.round = round;
+        this.messages = messages;
+        this.nodesTerminated = nodesTerminated;
+    }
+
+
+    /**
+     * Called by the round loop between rounds. Blocks while the run (or its sweep) is paused.
+     *
+     * @return True if the run should continue, false if it has been cancelled.
+     */
+    public boolean checkpoint() {
+        if (isPaused() && !isCancelled()) {
+            long start = System.nanoTime();
+            pausedSince = start;
+            synchronized (this) {
+                while (isPaused() && !isCancelled()) {
+                    try {
+                        wait(100);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        cancelled = true;
+                    }
+                }
+            }
+            // Paused time does not count towards the rates
+            long paused = System.nanoTime() - start;
+            pausedNanos += paused;
+            pausedSince = 0;
+            if (sweep != null) {
+                sweep.addPausedNanos(paused);
+            }
+        }
+        return !isCancelled();
+    }
+
+
+    /**
+     * Estimates the number of rounds a run will take, for ETA reporting only.
+     * LCR needs about n rounds to elect and n more to spread termination; HS needs about
+     * 4n rounds over its doubling phases plus n/2 for termination in both directions.
+     *
+     * @param algorithm The algorithm being simulated ("LCR" or "HS").
+     * @param n         The number of processors in the ring.
+     * @return The estimated total number of rounds.
+     */
+    public static int expectedRounds(String algorithm, int n) {
+        if ("LCR".equals(algorithm)) {
+            return 2 * n + 1;
+        }
+        return 6 * n;
+    }
+
+
+    /**
+     * Registers this monitor with the platform MBean server.
+     *
+     * @param index The position of this run within its sweep, used to keep names unique.
+     * @return The name it was registered under, or null if registration failed.
+     */
+    public ObjectName register(int index) {
+        return registerMBean(this, "type=Simulation,algorithm=" + algorithm + ",n=" + ringSize + ",run=" + index);
+    }
+
+
+    /**
+     * Registers an MBean under the simulator's JMX domain. Monitoring is optional, so
+     * failures are reported and otherwise ignored.
+     *
+     * @param mbean      The MBean to register.
+     * @param properties The key properties of its object name.
+     * @return The registered name, or null if registration failed.
+     */
+    static ObjectName registerMBean(Object mbean, String properties) {
+        try {
+            ObjectName name = new ObjectName(DOMAIN + ":" + properties);
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            if (server.isRegistered(name)) {
+                server.unregisterMBean(name);
+            }
+            server.registerMBean(mbean, name);
+            return name;
+        } catch (JMException e) {
+            System.err.println("JMX monitoring unavailable: " + e.getMessage());
+            return null;
+        }
+    }
+
+
+    /**
+     * Removes an MBean registered by {@link #registerMBean}.
+     *
+     * @param name The registered name; null is ignored.
+     */
+    static void unregisterMBean(ObjectName name) {
+        if (name == null) return;
+        try {
+            ManagementFactory.getPlatformMBeanServer().unregisterMBean(name);
+        } catch (JMException e) {
+            // Already gone
+        }
+    }
+
+    // MBean attributes and operations:
+
+    @Override
+    public String getAlgorithm() {
+        return algorithm;
+    }
+
+    @Override
+    public int getRingSize() {
+        return ringSize;
+    }
+
+    @Override
+    public int getRound() {
+        return round;
+    }
+
+    @Override
+    public long getMessages() {
+        return messages;
+    }
+
+    @Override
+    public int getNodesTerminated() {
+        return nodesTerminated;
+    }
+
+    @Override
+    public double getRoundsPerSecond() {
+        return perSecond(round);
+    }
+
+    @Override
+    public double getMessagesPerSecond() {
+        return perSecond(messages);
+    }
+
+    @Override
+    public double getEtaSeconds() {
+        double rate = getRoundsPerSecond();
+        int remaining = expectedRounds - round;
+        if (rate <= 0 || remaining < 0) return -1;
+        return remaining / rate;
+    }
+
+    @Override
+    public boolean isPaused() {
+        return paused || (sweep != null && sweep.isPaused());
+    }
+
+    @Override
+    public boolean isCancelled() {
+        return cancelled || (sweep != null && sweep.isCancelled());
+    }
+
+    @Override
+    public void pause() {
+        paused = true;
+    }
+
+    @Override
+    public synchronized void resume() {
+        paused = false;
+        notifyAll();
+    }
+
+    @Override
+    public synchronized void cancel() {
+        cancelled = true;
+        notifyAll();
+    }
+
+    /**
+     * @return The time the run has spent in the current wait so far, or 0 if it is not waiting.
+     */
+    long getCurrentPauseNanos() {
+        long since = pausedSince;
+        return since != 0 ? System.nanoTime() - since : 0;
+    }
+
+    /**
+     * @return The number of rounds still expected, never negative.
+     */
+    int getRemainingRounds() {
+        return Math.max(expectedRounds - round, 0);
+    }
+
+    private double perSecond(long count) {
+        double seconds = (System.nanoTime() - startNanos - pausedNanos - getCurrentPauseNanos()) / 1e9;
+        return seconds > 0 ? count / seconds : 0;
+    }
+}
@@ -0,0 +1,71 @@
+/**
+ * JMX management interface for a single running leader election simulation.
+ * Exposes live progress counters and operations to pause, resume or cancel the run.
+ */
+public interface SimulationMonitorMBean {
+
+    /**
+     * @return The name of the algorithm being simulated ("LCR" or "HS").
+     */
+    String getAlgorithm();
+
+    /**
+     * @return The number of processors in the ring, over all elections for a multi-election run.
+     */
+    int getRingSize();
+
+    /**
+     * @return The last completed round.
+     */
+    int getRound();
+
+    /**
+     * @return The number of messages sent so far.
+     */
+    long getMessages();
+
+    /**
+     * @return The number of processors that have terminated.
+     */
+    int getNodesTerminated();
+
+    /**
+     * @return The average number of rounds simulated per second since the run started.
+     */
+    double getRoundsPerSecond();
+
+    /**
+     * @return The average number of messages sent per second since the run started.
+     */
+    double getMessagesPerSecond();
+
+    /**
+     * @return Estimated seconds until the run finishes, or -1 if no estimate is available yet.
+     */
+    double getEtaSeconds();
+
+    /**
+     * @return True if the run is paused.
+     */
+    boolean isPaused();
+
+    /**
+     * @return True if the run has been cancelled.
+     */
+    boolean isCancelled();
+
+    /**
+     * Pauses the run before its next round.
+     */
+    void pause();
+
+    /**
+     * Resumes a paused run.
+     */
+    void resume();
+
+    /**
+     * Stops the run before its next round.
+     */
+    void cancel();
+}
@@ -0,0 +1,196 @@
+import javax.management.ObjectName;
+
+/**
+ * Tracks the progress of a sweep of simulations over several ring sizes and exposes it over JMX.
+ * Each run in the sweep gets its own {@link SimulationMonitor}, which consults this sweep
+ * for pause and cancel requests.
+ */
+public class SweepMonitor implements SweepMonitorMBean {
+    private final String algorithm;
+    private final int[] ringSizes;
+    private final long startNanos = System.nanoTime();
+
+    private volatile SimulationMonitor current = null;  // Monitor of the run in progress
+    private volatile int completedRuns = 0;
+    private volatile long finishedRounds = 0;           // Rounds of all completed runs
+    private volatile long finishedMessages = 0;         // Messages of all completed runs
+    private volatile boolean paused = false;
+    private volatile boolean cancelled = false;
+    private volatile long pausedNanos = 0;              // Time runs spent paused, excluded from the rates
+    private ObjectName name;
+
+    /**
+     * Constructs a monitor for a sweep.
+     *
+     * @param algorithm The algorithm being simulated ("LCR" or "HS").
+     * @param ringSizes The ring sizes to be simulated, in order.
+     */
+    public SweepMonitor(String algorithm, int[] ringSizes) {
+        this.algorithm = algorithm;
+        this.ringSizes = ringSizes;
+    }
+
+
+    /**
+     * Creates the monitor for the next run of the sweep and makes it the run in progress.
+     *
+     * @param n The ring size of the next run.
+     * @return The monitor the run should report to.
+     */
+    public SimulationMonitor startRun(int n) {
+        SimulationMonitor monitor = new SimulationMonitor(algorithm, n, SimulationMonitor.expectedRounds(algorithm, n), this);
+        current = monitor;
+        return monitor;
+    }
+
+
+    /**
+     * Records that the run in progress has finished.
+     *
+     * @param rounds   The number of rounds the run took.
+     * @param messages The number of messages the run sent.
+     */
+    public void finishRun(int rounds, long messages) {
+        finishedRounds += rounds;
+        finishedMessages += messages;
+        completedRuns++;
+        current = null;
+    }
+
+
+    /**
+     * Records time the run in progress spent paused, so it is excluded from the sweep's rates.
+     *
+     * @param nanos The length of the pause in nanoseconds.
+     */
+    void addPausedNanos(long nanos) {
+        pausedNanos += nanos;
+    }
+
+
+    /**
+     * Registers this sweep with the platform MBean server.
+     */
+    public void register() {
+        name = SimulationMonitor.registerMBean(this, "type=Sweep,algorithm=" + algorithm);
+    }
+
+
+    /**
+     * Removes this sweep from the platform MBean server.
+     */
+    public void unregister() {
+        SimulationMonitor.unregisterMBean(name);
+        name = null;
+    }
+
+    // MBean attributes and operations:
+
+    @Override
+    public String getAlgorithm() {
+        return algorithm;
+    }
+
+    @Override
+    public int getTotalRuns() {
+        return ringSizes.length;
+    }
+
+    @Override
+    public int getCompletedRuns() {
+        return completedRuns;
+    }
+
+    @Override
+    public int getCurrentRingSize() {
+        SimulationMonitor run = current;
+        return run != null ? run.getRingSize() : 0;
+    }
+
+    @Override
+    public int getRound() {
+        SimulationMonitor run = current;
+        return run != null ? run.getRound() : 0;
+    }
+
+    @Override
+    public long getMessages() {
+        SimulationMonitor run = current;
+        return finishedMessages + (run != null ? run.getMessages() : 0);
+    }
+
+    @Override
+    public int getNodesTerminated() {
+        SimulationMonitor run = current;
+        return run != null ? run.getNodesTerminated() : 0;
+    }
+
+    @Override
+    public double getRoundsPerSecond() {
+        SimulationMonitor run = current;
+        return perSecond(finishedRounds + (run != null ? run.getRound() : 0));
+    }
+
+    @Override
+    public double getMessagesPerSecond() {
+        return perSecond(getMessages());
+    }
+
+    @Override
+    public double getEtaSeconds() {
+        double rate = getRoundsPerSecond();
+        if (rate <= 0) return -1;
+        SimulationMonitor run = current;
+        long remaining = run != null ? run.getRemainingRounds() : 0;
+        // Runs not yet started: everything after the one in progress (or after the completed ones)
+        int next = completedRuns + (run != null ? 1 : 0);
+        for (int i = next; i < ringSizes.length; i++) {
+            remaining += SimulationMonitor.expectedRounds(algorithm, ringSizes[i]);
+        }
+        return remaining / rate;
+    }
+
+    @Override
+    public boolean isPaused() {
+        return paused;
+    }
+
+    @Override
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    @Override
+    public void pause() {
+        paused = true;
+    }
+
+    @Override
+    public void resume() {
+        paused = false;
+        SimulationMonitor run = current;
+        if (run != null) {
+            synchronized (run) {
+                run.notifyAll();
+            }
+        }
+    }
+
+    @Override
+    public void cancel() {
+        cancelled = true;
+        SimulationMonitor run = current;
+        if (run != null) {
+            synchronized (run) {
+                run.notifyAll();
+            }
+        }
+    }
+
+    private double perSecond(long count) {
+        SimulationMonitor run = current;
+        long paused = pausedNanos + (run != null ? run.getCurrentPauseNanos() : 0);
+        double seconds = (System.nanoTime() - startNanos - paused) / 1e9;
+        return seconds > 0 ? count / seconds : 0;
+    }
+}
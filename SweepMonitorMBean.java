@@ -0,0 +1,81 @@
+/**
+ * JMX management interface for a sweep of simulations over several ring sizes.
+ * Pausing or cancelling the sweep also pauses or cancels the simulation currently running.
+ */
+public interface SweepMonitorMBean {
+
+    /**
+     * @return The name of the algorithm being simulated ("LCR" or "HS").
+     */
+    String getAlgorithm();
+
+    /**
+     * @return The number of runs in the sweep.
+     */
+    int getTotalRuns();
+
+    /**
+     * @return The number of runs that have finished.
+     */
+    int getCompletedRuns();
+
+    /**
+     * @return The ring size of the run in progress, or 0 if none is running.
+     */
+    int getCurrentRingSize();
+
+    /**
+     * @return The current round of the run in progress.
+     */
+    int getRound();
+
+    /**
+     * @return The total number of messages sent across all runs so far.
+     */
+    long getMessages();
+
+    /**
+     * @return The number of processors terminated in the run in progress.
+     */
+    int getNodesTerminated();
+
+    /**
+     * @return The average number of rounds simulated per second since the sweep started.
+     */
+    double getRoundsPerSecond();
+
+    /**
+     * @return The average number of messages sent per second since the sweep started.
+     */
+    double getMessagesPerSecond();
+
+    /**
+     * @return Estimated seconds until the whole sweep finishes, or -1 if no estimate is available yet.
+     */
+    double getEtaSeconds();
+
+    /**
+     * @return True if the sweep is paused.
+     */
+    boolean isPaused();
+
+    /**
+     * @return True if the sweep has been cancelled.
+     */
+    boolean isCancelled();
+
+    /**
+     * Pauses the sweep before the next round of the run in progress.
+     */
+    void pause();
+
+    /**
+     * Resumes a paused sweep.
+     */
+    void resume();
+
+    /**
+     * Stops the run in progress and skips the remaining runs.
+     */
+    void cancel();
+}
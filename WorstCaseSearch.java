@@ -0,0 +1,259 @@
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Searches for ID permutations that make a ring election as expensive as possible.
+ * Several hill climbers run in parallel, one per thread. The first two start from the ascending
+ * and descending orders of {@link RingNetwork#generateIDs}, costliest first, so the search never
+ * reports a ring cheaper than either; the others start from random permutations of 1..n.
+ * Each climber repeatedly applies a local move (swapping neighbours or a random pair, or reversing
+ * a segment that may wrap past the end of the array), keeping it when the ring is at least as
+ * costly and undoing it otherwise.
+ * A climber that stops improving restarts from a perturbed copy of its best permutation.
+ * Every candidate is scored from scratch with {@link RingEvaluator}.
+ * Only the relative order of IDs matters to LCR and HS, so permutations of 1..n cover every ring.
+ */
+public class WorstCaseSearch {
+    private String algorithmType;
+    private String objective;    // "messages" or "rounds"
+    private int n;
+    private int iterations;      // Move proposals per climber
+    private int threads;
+    private long seed;
+
+    /**
+     * A permutation found by the search with its cost.
+     */
+    public static class Candidate {
+        private int[] ids;
+        private int rounds;
+        private long messages;
+
+        Candidate(int[] ids, int rounds, long messages) {
+            this.ids = ids;
+            this.rounds = rounds;
+            this.messages = messages;
+        }
+
+        /**
+         * @return The IDs in ring order, rotated so the largest ID comes first.
+         */
+        public int[] getIDs() {
+            return ids;
+        }
+
+        /**
+         * @return The rounds the election needs on this ring.
+         */
+        public int getRounds() {
+            return rounds;
+        }
+
+        /**
+         * @return The messages the election needs on this ring.
+         */
+        public long getMessages() {
+            return messages;
+        }
+    }
+
+    /**
+     * Constructs a search.
+     *
+     * @param algorithmType The election algorithm (LCR or HS).
+     * @param objective     What to maximize: "messages" or "rounds" (the other breaks ties).
+     * @param n             The number of processors in the ring.
+     * @param iterations    The number of move proposals per climber.
+     * @param threads       The number of climbers, each on its own thread.
+     * @param seed          The seed from which each climber's random source is derived.
+     */
+    public WorstCaseSearch(String algorithmType, String objective, int n, int iterations, int threads, long seed) {
+        if (!"messages".equals(objective) && !"rounds".equals(objective)) {
+            throw new IllegalArgumentException("Invalid objective: " + objective);
+        }
+        if (n < 2 || iterations < 0 || threads <= 0) {
+            throw new IllegalArgumentException("Invalid search parameters");
+        }
+        this.algorithmType = algorithmType;
+        this.objective = objective;
+        this.n = n;
+        this.iterations = iterations;
+        this.threads = threads;
+        this.seed = seed;
+    }
+
+
+    /**
+     * Runs all climbers in parallel and collects their best permutations.
+     *
+     * @return The distinct best permutations found, worst (most costly) first.
+     * @throws InterruptedException If interrupted while waiting for the climbers.
+     */
+    public List<Candidate> run() throws InterruptedException {
+        // Seed climbers with the plain orders, costliest first, so a single climber still starts from it
+        int[][] starts = {RingNetwork.generateIDs(n, "ascending", 1), RingNetwork.generateIDs(n, "descending", 1)};
+        RingEvaluator evaluator = new RingEvaluator(algorithmType, n);
+        evaluator.evaluate(starts[0]);
+        int ascendingRounds = evaluator.getRounds();
+        long ascendingMessages = evaluator.getMessages();
+        evaluator.evaluate(starts[1]);
+        if (compare(evaluator.getRounds(), evaluator.getMessages(), ascendingRounds, ascendingMessages) > 0) {
+            int[] tmp = starts[0];
+            starts[0] = starts[1];
+            starts[1] = tmp;
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        List<Future<Candidate>> futures = new ArrayList<>();
+        for (int w = 0; w < threads; w++) {
+            final long workerSeed = seed + w;
+            final int[] start = w < starts.length ? starts[w] : null;
+            futures.add(executor.submit(() -> climb(start, new Random(workerSeed))));
+        }
+        executor.shutdown();
+
+        List<Candidate> results = new ArrayList<>();
+        Set<String> seen = new HashSet<>();
+        try {
+            for (Future<Candidate> future : futures) {
+                Candidate candidate = future.get();
+                if (seen.add(Arrays.toString(candidate.getIDs()))) {
+                    results.add(candidate);
+                }
+            }
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Search failed", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+        results.sort((a, b) -> compare(b.getRounds(), b.getMessages(), a.getRounds(), a.getMessages()));
+        return results;
+    }
+
+
+    /**
+     * Hill-climbs for the configured number of iterations.
+     *
+     * @param start The permutation to start from, or null for a random one.
+     */
+    private Candidate climb(int[] start, Random rand) {
+        RingEvaluator evaluator = new RingEvaluator(algorithmType, n);
+        int[] ids;
+        if (start != null) {
+            ids = start.clone();
+        } else {
+            ids = new int[n];
+            for (int i = 0; i < n; i++) ids[i] = i + 1;
+            for (int i = n - 1; i > 0; i--) swap(ids, i, rand.nextInt(i + 1));
+        }
+        evaluator.evaluate(ids);
+        int rounds = evaluator.getRounds();
+        long messages = evaluator.getMessages();
+
+        int[] best = ids.clone();
+        int bestRounds = rounds;
+        long bestMessages = messages;
+        int patience = Math.max(1000, iterations / 20);  // Proposals without a new best before restarting
+        int sinceImprovement = 0;
+
+        for (int it = 0; it < iterations; it++) {
+            if (sinceImprovement >= patience) {
+                // Restart from the best permutation, shaken by a few random swaps
+                System.arraycopy(best, 0, ids, 0, n);
+                perturb(ids, Math.max(2, n / 10), rand);
+                evaluator.evaluate(ids);
+                rounds = evaluator.getRounds();
+                messages = evaluator.getMessages();
+                sinceImprovement = 0;
+            }
+
+            int i = rand.nextInt(n);
+            int move = rand.nextInt(3);
+            int j;
+            if (move == 0) {
+                j = (i + 1) % n;
+            } else if (move == 1) {
+                j = rand.nextInt(n);
+            } else {
+                j = 2 + rand.nextInt(n - 1);  // Segment length, up to the whole ring
+            }
+            if (move < 2 && i == j) continue;
+            applyMove(ids, move, i, j);
+            evaluator.evaluate(ids);
+            if (compare(evaluator.getRounds(), evaluator.getMessages(), rounds, messages) >= 0) {
+                rounds = evaluator.getRounds();
+                messages = evaluator.getMessages();
+            } else {
+                applyMove(ids, move, i, j);  // Every move is its own inverse
+            }
+
+            if (compare(rounds, messages, bestRounds, bestMessages) > 0) {
+                System.arraycopy(ids, 0, best, 0, n);
+                bestRounds = rounds;
+                bestMessages = messages;
+                sinceImprovement = 0;
+            } else {
+                sinceImprovement++;
+            }
+        }
+        return new Candidate(rotateToMax(best), bestRounds, bestMessages);
+    }
+
+    /**
+     * Compares two costs by the objective, breaking ties with the other measure.
+     */
+    private int compare(int rounds1, long messages1, int rounds2, long messages2) {
+        if ("messages".equals(objective)) {
+            int c = Long.compare(messages1, messages2);
+            return c != 0 ? c : Integer.compare(rounds1, rounds2);
+        }
+        int c = Integer.compare(rounds1, rounds2);
+        return c != 0 ? c : Long.compare(messages1, messages2);
+    }
+
+    /**
+     * Applies the given number of random swaps.
+     */
+    private static void perturb(int[] ids, int swaps, Random rand) {
+        for (int s = 0; s < swaps; s++) {
+            swap(ids, rand.nextInt(ids.length), rand.nextInt(ids.length));
+        }
+    }
+
+    /**
+     * Swaps positions i and j, or for the segment move reverses the j positions starting at i,
+     * wrapping from n - 1 to 0.
+     */
+    private static void applyMove(int[] ids, int move, int i, int j) {
+        if (move < 2) {
+            swap(ids, i, j);
+            return;
+        }
+        int n = ids.length;
+        for (int a = 0, b = j - 1; a < b; a++, b--) {
+            swap(ids, (i + a) % n, (i + b) % n);
+        }
+    }
+
+    private static void swap(int[] ids, int i, int j) {
+        int tmp = ids[i];
+        ids[i] = ids[j];
+        ids[j] = tmp;
+    }
+
+    /**
+     * Rotates a ring so the largest ID comes first. Rotations of a ring elect the same way,
+     * so this makes equivalent results identical.
+     */
+    private static int[] rotateToMax(int[] ids) {
+        int maxIndex = 0;
+        for (int i = 1; i < ids.length; i++) {
+            if (ids[i] > ids[maxIndex]) maxIndex = i;
+        }
+        int[] rotated = new int[ids.length];
+        for (int i = 0; i < ids.length; i++) {
+            rotated[i] = ids[(maxIndex + i) % ids.length];
+        }
+        return rotated;
+    }
+}